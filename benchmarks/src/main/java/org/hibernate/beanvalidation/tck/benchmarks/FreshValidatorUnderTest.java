@@ -0,0 +1,52 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks;
+
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+
+/**
+ * JMH state providing a new validator factory of the provider under test for each iteration.
+ * <p>
+ * Used with {@link org.openjdk.jmh.annotations.Mode#SingleShotTime}, the measured invocation is the first one of its
+ * factory, i.e. it includes the work the provider defers until a bean or executable is first validated. The bootstrap
+ * of the factory itself is not measured.
+ */
+@State(Scope.Thread)
+public class FreshValidatorUnderTest {
+
+	private ValidatorFactory validatorFactory;
+
+	private Validator validator;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		validatorFactory = TestUtil.getValidatorFactoryUnderTest();
+		validator = validatorFactory.getValidator();
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	public ValidatorFactory getValidatorFactory() {
+		return validatorFactory;
+	}
+
+	public Validator getValidator() {
+		return validator;
+	}
+}
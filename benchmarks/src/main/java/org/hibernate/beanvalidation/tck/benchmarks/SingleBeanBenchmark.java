@@ -0,0 +1,56 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.validation.ConstraintViolation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Address;
+
+/**
+ * Baseline for the other benchmarks: validation of a single bean without cascading.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SingleBeanBenchmark {
+
+	private Address validAddress;
+
+	private Address invalidAddress;
+
+	@Setup
+	public void setUp() {
+		validAddress = new Address( "Rue de Rivoli", "75001", "Paris" );
+		invalidAddress = new Address( null, "75001", "Paris, Capital of the French Republic" );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Address>> validateValidBean(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getValidator().validate( validAddress );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Address>> validateInvalidBean(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getValidator().validate( invalidAddress );
+	}
+}
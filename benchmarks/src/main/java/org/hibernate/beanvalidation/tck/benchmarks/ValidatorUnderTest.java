@@ -0,0 +1,58 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks;
+
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.executable.ExecutableValidator;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+
+/**
+ * JMH state providing the validator factory and validator of the provider under test.
+ * <p>
+ * As in the TCK, the provider is selected via the system property <i>validation.provider</i> and bootstrapped through
+ * {@link TestUtil}. One factory is created per trial, so the measurements see a warm provider.
+ */
+@State(Scope.Benchmark)
+public class ValidatorUnderTest {
+
+	private ValidatorFactory validatorFactory;
+
+	private Validator validator;
+
+	private ExecutableValidator executableValidator;
+
+	@Setup
+	public void setUp() {
+		validatorFactory = TestUtil.getValidatorFactoryUnderTest();
+		validator = validatorFactory.getValidator();
+		executableValidator = validator.forExecutables();
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	public ValidatorFactory getValidatorFactory() {
+		return validatorFactory;
+	}
+
+	public Validator getValidator() {
+		return validator;
+	}
+
+	public ExecutableValidator getExecutableValidator() {
+		return executableValidator;
+	}
+}
@@ -0,0 +1,89 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.bootstrap;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.validation.ConstraintViolation;
+import javax.validation.ValidatorFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to first validate, i.e. the bootstrap of a validator factory for each {@link BootstrapScenario} followed by the
+ * validation of a first bean.
+ * <p>
+ * Each invocation bootstraps a new factory with a new thread context class loader, so the generated beans are loaded
+ * again as well, as on a cold start. The heap retained by the factories is reported by {@link BootstrapFootprint}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Thread)
+public class BootstrapBenchmark {
+
+	@Param({ "NO_XML", "XML_CONFIGURATION", "CONSTRAINT_DECLARATION", "METHOD_VALIDATION", "GENERATED_100",
+			"GENERATED_1000", "GENERATED_10000" })
+	public BootstrapScenario scenario;
+
+	private BootstrapScenario.Prepared prepared;
+
+	private BootstrapClassLoader classLoader;
+
+	private ValidatorFactory validatorFactory;
+
+	@Setup
+	public void prepare() {
+		prepared = scenario.prepare();
+
+		setUp();
+		Set<ConstraintViolation<Object>> violations = bootstrapAndValidate();
+		prepared.assertConfigured( classLoader, violations );
+		tearDown();
+	}
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		classLoader = prepared.createClassLoader( Thread.currentThread().getContextClassLoader() );
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		if ( validatorFactory != null ) {
+			validatorFactory.close();
+			validatorFactory = null;
+		}
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Object>> bootstrapAndValidate() {
+		Thread thread = Thread.currentThread();
+		ClassLoader originalContextClassLoader = thread.getContextClassLoader();
+		thread.setContextClassLoader( classLoader );
+		try {
+			validatorFactory = prepared.bootstrap();
+			return prepared.validateFirstBean( validatorFactory, classLoader );
+		}
+		finally {
+			thread.setContextClassLoader( originalContextClassLoader );
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.bootstrap;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+
+/**
+ * Class loader used as thread context class loader during the bootstrap of a validator factory.
+ * <p>
+ * It serves the given sample as {@code META-INF/validation.xml}, or no {@code META-INF/validation.xml} at all if no
+ * sample is given, and defines the classes of a generated constraint mapping. Everything else is delegated to the
+ * parent.
+ */
+public class BootstrapClassLoader extends ClassLoader {
+
+	private static final String VALIDATION_XML = "META-INF/validation.xml";
+
+	private final String validationXml;
+
+	private final Map<String, byte[]> classFiles;
+
+	private volatile boolean validationXmlRead;
+
+	/**
+	 * @param parent the class loader to delegate to
+	 * @param validationXml the resource name of the sample to serve as {@code META-INF/validation.xml}, may be
+	 * {@code null}
+	 * @param classFiles the generated class files by class name
+	 */
+	public BootstrapClassLoader(ClassLoader parent, String validationXml, Map<String, byte[]> classFiles) {
+		super( parent );
+		this.validationXml = validationXml;
+		this.classFiles = classFiles;
+	}
+
+	/**
+	 * @return whether {@code META-INF/validation.xml} was requested from this class loader
+	 */
+	public boolean isValidationXmlRead() {
+		return validationXmlRead;
+	}
+
+	@Override
+	protected Class<?> findClass(String name) throws ClassNotFoundException {
+		byte[] classFile = classFiles.get( name );
+		if ( classFile == null ) {
+			throw new ClassNotFoundException( name );
+		}
+		return defineClass( name, classFile, 0, classFile.length );
+	}
+
+	@Override
+	public URL getResource(String name) {
+		if ( isValidationXml( name ) ) {
+			validationXmlRead = true;
+			return validationXml != null ? getParent().getResource( validationXml ) : null;
+		}
+		return super.getResource( name );
+	}
+
+	@Override
+	public Enumeration<URL> getResources(String name) throws IOException {
+		if ( isValidationXml( name ) ) {
+			validationXmlRead = true;
+			return validationXml != null ? getParent().getResources( validationXml ) : Collections.<URL>emptyEnumeration();
+		}
+		return super.getResources( name );
+	}
+
+	@Override
+	public InputStream getResourceAsStream(String name) {
+		if ( isValidationXml( name ) ) {
+			validationXmlRead = true;
+			return validationXml != null ? getParent().getResourceAsStream( validationXml ) : null;
+		}
+		return super.getResourceAsStream( name );
+	}
+
+	private static boolean isValidationXml(String name) {
+		return VALIDATION_XML.equals( name ) || ( "/" + VALIDATION_XML ).equals( name );
+	}
+}
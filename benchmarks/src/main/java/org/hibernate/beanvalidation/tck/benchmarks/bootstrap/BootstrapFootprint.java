@@ -0,0 +1,88 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.bootstrap;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.logging.Logger;
+import javax.validation.ConstraintViolation;
+import javax.validation.ValidatorFactory;
+
+/**
+ * Reports the heap retained by a validator factory of the provider under test after its bootstrap and the validation
+ * of a first bean, for each {@link BootstrapScenario}.
+ * <p>
+ * The retained heap is the difference of the used heap after a garbage collection with the factory and without it.
+ * It includes the generated beans loaded by the factory, but not their class files and the generated constraint
+ * mapping, which are created beforehand. The first {@value #WARMUP_BOOTSTRAPS} bootstraps of each scenario are not
+ * reported, the reported value is the median of the following {@value #MEASURED_BOOTSTRAPS} bootstraps.
+ * <p>
+ * Run it with the provider under test on the class path, e.g. {@code java -Dvalidation.provider=<provider class> -cp
+ * benchmarks.jar org.hibernate.beanvalidation.tck.benchmarks.bootstrap.BootstrapFootprint}.
+ */
+public final class BootstrapFootprint {
+
+	private static final int WARMUP_BOOTSTRAPS = 2;
+
+	private static final int MEASURED_BOOTSTRAPS = 5;
+
+	private static final Logger logger = Logger.getLogger( BootstrapFootprint.class.getName() );
+
+	private static final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+
+	private BootstrapFootprint() {
+	}
+
+	public static void main(String[] args) {
+		for ( BootstrapScenario scenario : BootstrapScenario.values() ) {
+			BootstrapScenario.Prepared prepared = scenario.prepare();
+			for ( int i = 0; i < WARMUP_BOOTSTRAPS; i++ ) {
+				measureRetainedBytes( prepared );
+			}
+
+			long[] retainedBytes = new long[MEASURED_BOOTSTRAPS];
+			for ( int i = 0; i < MEASURED_BOOTSTRAPS; i++ ) {
+				retainedBytes[i] = measureRetainedBytes( prepared );
+			}
+			Arrays.sort( retainedBytes );
+			logger.info( "Retained heap after bootstrap for " + scenario + ": " + retainedBytes[MEASURED_BOOTSTRAPS / 2] + " bytes" );
+		}
+	}
+
+	private static long measureRetainedBytes(BootstrapScenario.Prepared prepared) {
+		Thread thread = Thread.currentThread();
+		ClassLoader originalContextClassLoader = thread.getContextClassLoader();
+		BootstrapClassLoader classLoader = prepared.createClassLoader( originalContextClassLoader );
+
+		long baselineBytes = getUsedHeapAfterGc();
+		ValidatorFactory validatorFactory;
+		thread.setContextClassLoader( classLoader );
+		try {
+			validatorFactory = prepared.bootstrap();
+			Set<ConstraintViolation<Object>> violations = prepared.validateFirstBean( validatorFactory, classLoader );
+			prepared.assertConfigured( classLoader, violations );
+		}
+		finally {
+			thread.setContextClassLoader( originalContextClassLoader );
+		}
+
+		try {
+			return getUsedHeapAfterGc() - baselineBytes;
+		}
+		finally {
+			validatorFactory.close();
+		}
+	}
+
+	private static long getUsedHeapAfterGc() {
+		System.gc();
+		System.gc();
+		return memoryMXBean.getHeapMemoryUsage().getUsed();
+	}
+}
@@ -0,0 +1,216 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.bootstrap;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Set;
+import javax.validation.Configuration;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+import org.hibernate.beanvalidation.tck.tests.xmlconfiguration.User;
+import org.hibernate.beanvalidation.tck.tests.xmlconfiguration.methodvalidation.CustomerRepository;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.hibernate.beanvalidation.tck.util.mapping.ConstraintMappingGenerator;
+import org.hibernate.beanvalidation.tck.util.mapping.GeneratedConstraintMapping;
+
+/**
+ * The configurations a validator factory is bootstrapped with by {@link BootstrapBenchmark} and
+ * {@link BootstrapFootprint}.
+ * <p>
+ * The constraint mappings of the scenarios with generated beans are created by {@link ConstraintMappingGenerator}
+ * in version 1.1, each bean has {@value #GENERATED_FIELDS} constrained fields. Each scenario validates a first bean
+ * declared by its configuration and checks the number of constraint violations, which differs if the configuration
+ * was not applied. The scenarios with generated beans validate the first generated bean, which violates all its
+ * constraints.
+ */
+public enum BootstrapScenario {
+
+	/**
+	 * No {@code META-INF/validation.xml} and no constraint mappings. Validates a {@link User}, violating the
+	 * annotated {@code @NotNull} of its first name.
+	 */
+	NO_XML( null, User.class, 1 ),
+
+	/**
+	 * The {@code validation.xml} of {@code XmlConfigurationTest}, referencing two constraint mappings. Validates a
+	 * {@link User}, whose mapping ignores the annotated {@code @NotNull} of its first name, so there is no violation.
+	 */
+	XML_CONFIGURATION( "org/hibernate/beanvalidation/tck/tests/xmlconfiguration/validation-XmlConfigurationTest.xml", User.class, 0 ),
+
+	/**
+	 * The {@code validation.xml} of {@code ConstraintDeclarationTest}, referencing one constraint mapping. Validates
+	 * the {@code Package} it declares, whose annotated class-level constraint is ignored by default as the bean is
+	 * declared in XML, so there is no violation.
+	 */
+	CONSTRAINT_DECLARATION( "org/hibernate/beanvalidation/tck/tests/xmlconfiguration/constraintdeclaration/validation-ConstraintDeclarationTest.xml",
+			org.hibernate.beanvalidation.tck.tests.xmlconfiguration.constraintdeclaration.Package.class, 0 ),
+
+	/**
+	 * The {@code validation.xml} of the XML configuration {@code MethodValidationTest}, referencing one constraint
+	 * mapping with method constraints. Validates the parameters of {@code findCustomer()} of the
+	 * {@link CustomerRepository} it declares, violating the {@code @NotNull} declared in XML.
+	 */
+	METHOD_VALIDATION( "org/hibernate/beanvalidation/tck/tests/xmlconfiguration/methodvalidation/validation-MethodValidationTest.xml", CustomerRepository.class, 1 ) {
+		@Override
+		Set<ConstraintViolation<Object>> validate(Validator validator, Object bean) {
+			Method method;
+			try {
+				method = CustomerRepository.class.getMethod( "findCustomer", String.class );
+			}
+			catch (NoSuchMethodException e) {
+				throw new IllegalStateException( "Couldn't find the validated method", e );
+			}
+			return validator.forExecutables().validateParameters( bean, method, new Object[] { null } );
+		}
+	},
+
+	/**
+	 * A generated constraint mapping declaring 100 beans.
+	 */
+	GENERATED_100( 100 ),
+
+	/**
+	 * A generated constraint mapping declaring 1,000 beans.
+	 */
+	GENERATED_1000( 1000 ),
+
+	/**
+	 * A generated constraint mapping declaring 10,000 beans.
+	 */
+	GENERATED_10000( 10000 );
+
+	private static final int GENERATED_FIELDS = 5;
+
+	private final String validationXml;
+
+	private final Class<?> firstBeanClass;
+
+	private final int expectedViolations;
+
+	private final int generatedBeanCount;
+
+	BootstrapScenario(String validationXml, Class<?> firstBeanClass, int expectedViolations) {
+		this.validationXml = validationXml;
+		this.firstBeanClass = firstBeanClass;
+		this.expectedViolations = expectedViolations;
+		this.generatedBeanCount = 0;
+	}
+
+	BootstrapScenario(int generatedBeanCount) {
+		this.validationXml = null;
+		this.firstBeanClass = null;
+		this.expectedViolations = -1;
+		this.generatedBeanCount = generatedBeanCount;
+	}
+
+	/**
+	 * Prepares the scenario, i.e. generates its constraint mapping and beans. The result can be bootstrapped several
+	 * times.
+	 */
+	public Prepared prepare() {
+		GeneratedConstraintMapping generatedMapping = null;
+		if ( generatedBeanCount > 0 ) {
+			generatedMapping = new ConstraintMappingGenerator( ConstraintMappingGenerator.Version.V1_1 )
+					.withBeans( generatedBeanCount )
+					.withFields( GENERATED_FIELDS )
+					.generate();
+		}
+		return new Prepared( this, generatedMapping );
+	}
+
+	/**
+	 * Validates the first bean of the scenario.
+	 */
+	Set<ConstraintViolation<Object>> validate(Validator validator, Object bean) {
+		return validator.validate( bean );
+	}
+
+	/**
+	 * A scenario with its generated constraint mapping, if any.
+	 */
+	public static class Prepared {
+
+		private final BootstrapScenario scenario;
+
+		private final GeneratedConstraintMapping generatedMapping;
+
+		private Prepared(BootstrapScenario scenario, GeneratedConstraintMapping generatedMapping) {
+			this.scenario = scenario;
+			this.generatedMapping = generatedMapping;
+		}
+
+		/**
+		 * Creates the thread context class loader for one bootstrap. As the generated beans are defined by this class
+		 * loader, each bootstrap with a new class loader also includes loading the beans.
+		 */
+		public BootstrapClassLoader createClassLoader(ClassLoader parent) {
+			return new BootstrapClassLoader(
+					parent,
+					scenario.validationXml,
+					generatedMapping != null ? generatedMapping.getClassFiles() : Collections.<String, byte[]>emptyMap()
+			);
+		}
+
+		/**
+		 * Bootstraps a validator factory of the provider under test. A class loader created by
+		 * {@link #createClassLoader(ClassLoader)} has to be the thread context class loader.
+		 */
+		public ValidatorFactory bootstrap() {
+			Configuration<?> configuration = TestUtil.getConfigurationUnderTest();
+			if ( scenario.validationXml == null ) {
+				configuration.ignoreXmlConfiguration();
+			}
+			if ( generatedMapping != null ) {
+				configuration.addMapping( generatedMapping.getInputStream() );
+			}
+			return configuration.buildValidatorFactory();
+		}
+
+		/**
+		 * Validates the first bean of the scenario.
+		 */
+		public Set<ConstraintViolation<Object>> validateFirstBean(ValidatorFactory validatorFactory,
+				BootstrapClassLoader classLoader) {
+			return scenario.validate( validatorFactory.getValidator(), createFirstBean( classLoader ) );
+		}
+
+		/**
+		 * Checks that the bootstrap used the configuration of the scenario.
+		 */
+		public void assertConfigured(BootstrapClassLoader classLoader, Set<ConstraintViolation<Object>> violations) {
+			if ( scenario.validationXml != null && !classLoader.isValidationXmlRead() ) {
+				throw new IllegalStateException(
+						"The provider did not read META-INF/validation.xml via the thread context class loader, "
+								+ scenario + " cannot be measured"
+				);
+			}
+			int expectedViolations = generatedMapping != null ?
+					generatedMapping.getViolationsPerBean() :
+					scenario.expectedViolations;
+			if ( violations.size() != expectedViolations ) {
+				throw new IllegalStateException(
+						"Expected " + expectedViolations + " constraint violations, but got " + violations
+				);
+			}
+		}
+
+		private Object createFirstBean(BootstrapClassLoader classLoader) {
+			try {
+				Class<?> beanClass = generatedMapping != null ?
+						classLoader.loadClass( generatedMapping.getBeanClassNames().get( 0 ) ) :
+						scenario.firstBeanClass;
+				return beanClass.getDeclaredConstructor().newInstance();
+			}
+			catch (ReflectiveOperationException e) {
+				throw new IllegalStateException( "Couldn't instantiate the first bean", e );
+			}
+		}
+	}
+}
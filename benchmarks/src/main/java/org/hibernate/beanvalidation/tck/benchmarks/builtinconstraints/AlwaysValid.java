@@ -0,0 +1,43 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.builtinconstraints;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.Payload;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Constraint whose validator accepts any value without any work. Validating a property with this constraint measures
+ * the overhead of the validation of a property, which is included in the measurements of the built-in constraints.
+ */
+@Target(FIELD)
+@Retention(RUNTIME)
+@Constraint(validatedBy = AlwaysValid.Validator.class)
+@Documented
+public @interface AlwaysValid {
+
+	String message() default "always valid";
+
+	Class<?>[] groups() default { };
+
+	Class<? extends Payload>[] payload() default { };
+
+	class Validator implements ConstraintValidator<AlwaysValid, Object> {
+
+		@Override
+		public boolean isValid(Object value, ConstraintValidatorContext context) {
+			return true;
+		}
+	}
+}
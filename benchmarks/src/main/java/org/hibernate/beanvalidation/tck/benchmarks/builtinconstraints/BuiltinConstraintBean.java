@@ -0,0 +1,176 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.builtinconstraints;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import javax.validation.constraints.AssertFalse;
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Digits;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Null;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+/**
+ * Bean with one property per built-in constraint and supported type, named after the constraint and the type, e.g.
+ * {@code sizeString} or {@code decimalMinLong}, and the property {@code baseline} with the custom constraint
+ * {@link AlwaysValid}. All values are valid.
+ */
+public class BuiltinConstraintBean {
+
+	@AlwaysValid
+	private final Object baseline = "abc";
+
+	@Size(min = 1, max = 10)
+	private final String sizeString = "abc";
+
+	@Size(min = 1, max = 10)
+	private final Collection<String> sizeCollection = Arrays.asList( "a", "b", "c" );
+
+	@Size(min = 1, max = 10)
+	private final Map<String, String> sizeMap = createMap();
+
+	@Size(min = 1, max = 10)
+	private final String[] sizeObjectArray = { "a", "b", "c" };
+
+	@Size(min = 1, max = 10)
+	private final int[] sizeIntArray = { 1, 2, 3 };
+
+	@Digits(integer = 3, fraction = 2)
+	private final BigDecimal digitsBigDecimal = new BigDecimal( "100.25" );
+
+	@Digits(integer = 3, fraction = 2)
+	private final BigInteger digitsBigInteger = BigInteger.valueOf( 100 );
+
+	@Digits(integer = 3, fraction = 2)
+	private final String digitsString = "100.25";
+
+	@Digits(integer = 3, fraction = 2)
+	private final byte digitsByte = 100;
+
+	@Digits(integer = 3, fraction = 2)
+	private final short digitsShort = 100;
+
+	@Digits(integer = 3, fraction = 2)
+	private final int digitsInt = 100;
+
+	@Digits(integer = 3, fraction = 2)
+	private final long digitsLong = 100;
+
+	@DecimalMin("10.5")
+	private final BigDecimal decimalMinBigDecimal = new BigDecimal( "100.25" );
+
+	@DecimalMin("10.5")
+	private final BigInteger decimalMinBigInteger = BigInteger.valueOf( 100 );
+
+	@DecimalMin("10.5")
+	private final String decimalMinString = "100.25";
+
+	@DecimalMin("10.5")
+	private final byte decimalMinByte = 100;
+
+	@DecimalMin("10.5")
+	private final short decimalMinShort = 100;
+
+	@DecimalMin("10.5")
+	private final int decimalMinInt = 100;
+
+	@DecimalMin("10.5")
+	private final long decimalMinLong = 100;
+
+	@DecimalMax("1000.5")
+	private final BigDecimal decimalMaxBigDecimal = new BigDecimal( "100.25" );
+
+	@DecimalMax("1000.5")
+	private final BigInteger decimalMaxBigInteger = BigInteger.valueOf( 100 );
+
+	@DecimalMax("1000.5")
+	private final String decimalMaxString = "100.25";
+
+	@DecimalMax("1000.5")
+	private final byte decimalMaxByte = 100;
+
+	@DecimalMax("1000.5")
+	private final short decimalMaxShort = 100;
+
+	@DecimalMax("1000.5")
+	private final int decimalMaxInt = 100;
+
+	@DecimalMax("1000.5")
+	private final long decimalMaxLong = 100;
+
+	@Min(10)
+	private final BigDecimal minBigDecimal = new BigDecimal( "100.25" );
+
+	@Min(10)
+	private final BigInteger minBigInteger = BigInteger.valueOf( 100 );
+
+	@Min(10)
+	private final byte minByte = 100;
+
+	@Min(10)
+	private final short minShort = 100;
+
+	@Min(10)
+	private final int minInt = 100;
+
+	@Min(10)
+	private final long minLong = 100;
+
+	@Max(1000)
+	private final BigDecimal maxBigDecimal = new BigDecimal( "100.25" );
+
+	@Max(1000)
+	private final BigInteger maxBigInteger = BigInteger.valueOf( 100 );
+
+	@Max(1000)
+	private final byte maxByte = 100;
+
+	@Max(1000)
+	private final short maxShort = 100;
+
+	@Max(1000)
+	private final int maxInt = 100;
+
+	@Max(1000)
+	private final long maxLong = 100;
+
+	@Pattern(regexp = "[a-z][a-z] \\d\\d")
+	private final String patternString = "ab 12";
+
+	@Pattern(regexp = "[a-z][a-z] \\d\\d")
+	private final StringBuilder patternStringBuilder = new StringBuilder( "ab 12" );
+
+	@AssertTrue
+	private final boolean assertTrueBoolean = true;
+
+	@AssertFalse
+	private final boolean assertFalseBoolean = false;
+
+	@Null
+	private final Object nullObject = null;
+
+	@NotNull
+	private final Object notNullObject = "abc";
+
+	private static Map<String, String> createMap() {
+		Map<String, String> map = new HashMap<String, String>();
+		map.put( "a", "1" );
+		map.put( "b", "2" );
+		map.put( "c", "3" );
+		return map;
+	}
+}
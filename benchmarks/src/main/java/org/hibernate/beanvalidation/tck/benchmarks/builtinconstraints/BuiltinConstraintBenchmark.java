@@ -0,0 +1,231 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.builtinconstraints;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.metadata.PropertyDescriptor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.hibernate.beanvalidation.tck.benchmarks.ValidatorUnderTest;
+
+/**
+ * Validation of a valid property per built-in constraint and supported type of {@link BuiltinConstraintBean}.
+ * <p>
+ * Each benchmark validates one property via {@link Validator#validateProperty(Object, String, Class[])}, the type is
+ * selected by the {@code type} parameter. The overhead of {@code validateProperty()} is the same for all properties,
+ * so the differences between the types of a constraint are the differences between the constraint validators for
+ * these types. This overhead is measured by {@code validateBaseline}, which validates a property with a constraint
+ * validator doing no work; subtracting it from a result yields the cost of the constraint validator. The primitive
+ * types stand for their wrapper types as well, as the values are boxed when read from the bean. The allocation per
+ * validation, e.g. by the conversion of a {@code long} into a {@code BigDecimal}, is the {@code gc.alloc.rate.norm}
+ * reported by {@code -prof gc}, again including the allocation of {@code validateBaseline}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BuiltinConstraintBenchmark {
+
+	private final BuiltinConstraintBean bean = new BuiltinConstraintBean();
+
+	private Validator validator;
+
+	@Setup
+	public void setUp(ValidatorUnderTest validatorUnderTest) {
+		validator = validatorUnderTest.getValidator();
+
+		assertValid( validator, "baseline" );
+		assertValid( validator, "assertTrueBoolean" );
+		assertValid( validator, "assertFalseBoolean" );
+		assertValid( validator, "nullObject" );
+		assertValid( validator, "notNullObject" );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<BuiltinConstraintBean>> validateBaseline() {
+		return validator.validateProperty( bean, "baseline" );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<BuiltinConstraintBean>> validateSize(SizeTypes types) {
+		return validator.validateProperty( bean, types.property );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<BuiltinConstraintBean>> validateDigits(DecimalTypes types) {
+		return validator.validateProperty( bean, types.digitsProperty );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<BuiltinConstraintBean>> validateDecimalMin(DecimalTypes types) {
+		return validator.validateProperty( bean, types.decimalMinProperty );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<BuiltinConstraintBean>> validateDecimalMax(DecimalTypes types) {
+		return validator.validateProperty( bean, types.decimalMaxProperty );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<BuiltinConstraintBean>> validateMin(NumberTypes types) {
+		return validator.validateProperty( bean, types.minProperty );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<BuiltinConstraintBean>> validateMax(NumberTypes types) {
+		return validator.validateProperty( bean, types.maxProperty );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<BuiltinConstraintBean>> validatePattern(CharSequenceTypes types) {
+		return validator.validateProperty( bean, types.property );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<BuiltinConstraintBean>> validateAssertTrue() {
+		return validator.validateProperty( bean, "assertTrueBoolean" );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<BuiltinConstraintBean>> validateAssertFalse() {
+		return validator.validateProperty( bean, "assertFalseBoolean" );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<BuiltinConstraintBean>> validateNull() {
+		return validator.validateProperty( bean, "nullObject" );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<BuiltinConstraintBean>> validateNotNull() {
+		return validator.validateProperty( bean, "notNullObject" );
+	}
+
+	/**
+	 * The types supported by {@code @Size}.
+	 */
+	@State(Scope.Benchmark)
+	public static class SizeTypes {
+
+		@Param({ "String", "Collection", "Map", "ObjectArray", "IntArray" })
+		public String type;
+
+		private String property;
+
+		@Setup
+		public void setUp(ValidatorUnderTest validatorUnderTest) {
+			property = "size" + type;
+			assertValid( validatorUnderTest.getValidator(), property );
+		}
+	}
+
+	/**
+	 * The types supported by {@code @Digits}, {@code @DecimalMin} and {@code @DecimalMax}.
+	 */
+	@State(Scope.Benchmark)
+	public static class DecimalTypes {
+
+		@Param({ "BigDecimal", "BigInteger", "String", "Byte", "Short", "Int", "Long" })
+		public String type;
+
+		private String digitsProperty;
+
+		private String decimalMinProperty;
+
+		private String decimalMaxProperty;
+
+		@Setup
+		public void setUp(ValidatorUnderTest validatorUnderTest) {
+			digitsProperty = "digits" + type;
+			decimalMinProperty = "decimalMin" + type;
+			decimalMaxProperty = "decimalMax" + type;
+
+			Validator validator = validatorUnderTest.getValidator();
+			assertValid( validator, digitsProperty );
+			assertValid( validator, decimalMinProperty );
+			assertValid( validator, decimalMaxProperty );
+		}
+	}
+
+	/**
+	 * The types supported by {@code @Min} and {@code @Max}.
+	 */
+	@State(Scope.Benchmark)
+	public static class NumberTypes {
+
+		@Param({ "BigDecimal", "BigInteger", "Byte", "Short", "Int", "Long" })
+		public String type;
+
+		private String minProperty;
+
+		private String maxProperty;
+
+		@Setup
+		public void setUp(ValidatorUnderTest validatorUnderTest) {
+			minProperty = "min" + type;
+			maxProperty = "max" + type;
+
+			Validator validator = validatorUnderTest.getValidator();
+			assertValid( validator, minProperty );
+			assertValid( validator, maxProperty );
+		}
+	}
+
+	/**
+	 * The types supported by {@code @Pattern}.
+	 */
+	@State(Scope.Benchmark)
+	public static class CharSequenceTypes {
+
+		@Param({ "String", "StringBuilder" })
+		public String type;
+
+		private String property;
+
+		@Setup
+		public void setUp(ValidatorUnderTest validatorUnderTest) {
+			property = "pattern" + type;
+			assertValid( validatorUnderTest.getValidator(), property );
+		}
+	}
+
+	/**
+	 * Checks that the given property has exactly one constraint and is valid, i.e. that the benchmark measures the
+	 * evaluation of a single constraint.
+	 */
+	private static void assertValid(Validator validator, String property) {
+		PropertyDescriptor descriptor = validator.getConstraintsForClass( BuiltinConstraintBean.class )
+				.getConstraintsForProperty( property );
+		if ( descriptor == null || descriptor.getConstraintDescriptors().size() != 1 ) {
+			throw new IllegalStateException( "Expected exactly one constraint on property " + property );
+		}
+
+		Set<ConstraintViolation<BuiltinConstraintBean>> violations = validator.validateProperty(
+				new BuiltinConstraintBean(),
+				property
+		);
+		if ( !violations.isEmpty() ) {
+			throw new IllegalStateException( "Expected no constraint violations for property " + property + ", but got " + violations );
+		}
+	}
+}
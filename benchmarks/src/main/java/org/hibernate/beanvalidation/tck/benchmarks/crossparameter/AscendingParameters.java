@@ -0,0 +1,52 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.crossparameter;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.Payload;
+import javax.validation.constraintvalidation.SupportedValidationTarget;
+import javax.validation.constraintvalidation.ValidationTarget;
+
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Cross-parameter constraint which is valid if the integer parameters are in ascending order, so that its validator
+ * reads all the parameters.
+ */
+@Documented
+@Constraint(validatedBy = AscendingParameters.Validator.class)
+@Target({ METHOD, CONSTRUCTOR })
+@Retention(RUNTIME)
+public @interface AscendingParameters {
+
+	String message() default "parameters must be in ascending order";
+
+	Class<?>[] groups() default { };
+
+	Class<? extends Payload>[] payload() default { };
+
+	@SupportedValidationTarget(ValidationTarget.PARAMETERS)
+	class Validator implements ConstraintValidator<AscendingParameters, Object[]> {
+
+		@Override
+		public boolean isValid(Object[] parameters, ConstraintValidatorContext context) {
+			for ( int i = 1; i < parameters.length; i++ ) {
+				if ( (Integer) parameters[i - 1] > (Integer) parameters[i] ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.crossparameter;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.hibernate.beanvalidation.tck.benchmarks.ValidatorUnderTest;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+
+/**
+ * Validation of a cross-parameter constraint on methods with 2, 8 and 32 parameters.
+ * <p>
+ * The valid parameters do not require a constraint violation, so their allocation (as reported by {@code -prof gc})
+ * shows the cost of providing the parameters to the cross-parameter validator, e.g. copying the parameter array. The
+ * invalid parameters create a violation whose path ends with the {@value TestUtil#CROSS_PARAMETER_NODE_NAME} node;
+ * comparing {@code validateInvalid} and {@code validateInvalidAndReadPath} shows whether the provider creates the path
+ * eagerly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CrossParameterBenchmark {
+
+	@Param({ "2", "8", "32" })
+	public int parameterCount;
+
+	private final CrossParameterService service = new CrossParameterService();
+
+	private Method method;
+
+	private Object[] validParameters;
+
+	private Object[] invalidParameters;
+
+	@Setup
+	public void setUp(ValidatorUnderTest validatorUnderTest) throws Exception {
+		Class<?>[] parameterTypes = new Class<?>[parameterCount];
+		Arrays.fill( parameterTypes, int.class );
+		method = CrossParameterService.class.getMethod( "parameters" + parameterCount, parameterTypes );
+
+		validParameters = new Object[parameterCount];
+		invalidParameters = new Object[parameterCount];
+		for ( int i = 0; i < parameterCount; i++ ) {
+			validParameters[i] = i;
+			invalidParameters[i] = parameterCount - i;
+		}
+
+		String lastNodeName = getLastNodeName( validateInvalid( validatorUnderTest ) );
+		if ( !TestUtil.CROSS_PARAMETER_NODE_NAME.equals( lastNodeName ) ) {
+			throw new IllegalStateException( "Unexpected node of the cross-parameter constraint violation: " + lastNodeName );
+		}
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<CrossParameterService>> validateValid(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getExecutableValidator().validateParameters( service, method, validParameters );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<CrossParameterService>> validateInvalid(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getExecutableValidator().validateParameters( service, method, invalidParameters );
+	}
+
+	@Benchmark
+	public String validateInvalidAndReadPath(ValidatorUnderTest validatorUnderTest) {
+		return getLastNodeName( validateInvalid( validatorUnderTest ) );
+	}
+
+	private static String getLastNodeName(Set<ConstraintViolation<CrossParameterService>> violations) {
+		if ( violations.size() != 1 ) {
+			throw new IllegalStateException( "Expected one constraint violation, but got " + violations );
+		}
+
+		Path.Node node = null;
+		Iterator<Path.Node> nodes = violations.iterator().next().getPropertyPath().iterator();
+		while ( nodes.hasNext() ) {
+			node = nodes.next();
+		}
+		return node == null ? null : node.getName();
+	}
+}
@@ -0,0 +1,27 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.crossparameter;
+
+/**
+ * Methods of different arity with a cross-parameter constraint.
+ */
+public class CrossParameterService {
+
+	@AscendingParameters
+	public void parameters2(int p0, int p1) {
+	}
+
+	@AscendingParameters
+	public void parameters8(int p0, int p1, int p2, int p3, int p4, int p5, int p6, int p7) {
+	}
+
+	@AscendingParameters
+	public void parameters32(int p0, int p1, int p2, int p3, int p4, int p5, int p6, int p7, int p8, int p9, int p10,
+			int p11, int p12, int p13, int p14, int p15, int p16, int p17, int p18, int p19, int p20, int p21, int p22,
+			int p23, int p24, int p25, int p26, int p27, int p28, int p29, int p30, int p31) {
+	}
+}
@@ -0,0 +1,128 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.graphnavigation;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.validation.ConstraintViolation;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.hibernate.beanvalidation.tck.benchmarks.ValidatorUnderTest;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Address;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Order;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.OrderLine;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.User;
+
+/**
+ * Cascaded validation of the {@code Order} graph of {@code GraphNavigationTest}, scaled up to the given number of order
+ * lines.
+ * <p>
+ * Each order line refers back to its order. The customer has one address per ten order lines, each of them referring
+ * back to the customer as inhabitant, and the first address is shared as shipping and billing address. In the invalid
+ * graph, every hundredth order line has no article number.
+ * <p>
+ * Besides the validations per second, the number of beans in the validated graph is reported as the {@code nodes}
+ * counter, i.e. the validated nodes per second. The allocation per validated node is the {@code gc.alloc.rate.norm}
+ * reported by {@code -prof gc} divided by {@link OrderGraph#nodeCount}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CascadeBenchmark {
+
+	@Benchmark
+	public Set<ConstraintViolation<Order>> validateValidOrder(ValidatorUnderTest validatorUnderTest, OrderGraph graph,
+			ValidatedNodes validatedNodes) {
+		validatedNodes.nodes += graph.nodeCount;
+		return validatorUnderTest.getValidator().validate( graph.validOrder );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Order>> validateInvalidOrder(ValidatorUnderTest validatorUnderTest, OrderGraph graph,
+			ValidatedNodes validatedNodes) {
+		validatedNodes.nodes += graph.nodeCount;
+		return validatorUnderTest.getValidator().validate( graph.invalidOrder );
+	}
+
+	@State(Scope.Benchmark)
+	public static class OrderGraph {
+
+		private static final int ORDER_LINES_PER_ADDRESS = 10;
+
+		private static final int ORDER_LINES_PER_VIOLATION = 100;
+
+		@Param({ "10", "1000", "100000", "1000000" })
+		public int orderLines;
+
+		/**
+		 * The number of beans of each of the graphs.
+		 */
+		public int nodeCount;
+
+		private Order validOrder;
+
+		private Order invalidOrder;
+
+		@Setup
+		public void setUp() {
+			validOrder = createOrder( 1, false );
+			invalidOrder = createOrder( 2, true );
+		}
+
+		private Order createOrder(int id, boolean invalid) {
+			Order order = new Order( id );
+
+			User customer = new User( "Bob", "McRobb" );
+			int addressCount = Math.max( 1, orderLines / ORDER_LINES_PER_ADDRESS );
+			for ( int i = 0; i < addressCount; i++ ) {
+				Address address = new Address( "Main Street " + i, "12345", "Springfield" );
+				address.setInhabitant( customer );
+				customer.addAddress( address );
+			}
+
+			order.setCustomer( customer );
+			order.setShippingAddress( customer.getAddresses().get( 0 ) );
+			order.setBillingAddress( customer.getAddresses().get( 0 ) );
+
+			for ( int i = 0; i < orderLines; i++ ) {
+				Integer articleNumber = invalid && i % ORDER_LINES_PER_VIOLATION == 0 ? null : i;
+				order.addOrderLine( new OrderLine( order, articleNumber ) );
+			}
+
+			// order, customer, addresses and order lines
+			nodeCount = 2 + addressCount + orderLines;
+			return order;
+		}
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class ValidatedNodes {
+
+		public long nodes;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			nodes = 0;
+		}
+	}
+}
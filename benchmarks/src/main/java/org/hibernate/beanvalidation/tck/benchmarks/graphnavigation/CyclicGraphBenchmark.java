@@ -0,0 +1,98 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.graphnavigation;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import javax.validation.ConstraintViolation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.hibernate.beanvalidation.tck.benchmarks.ValidatorUnderTest;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.User;
+
+/**
+ * Validation of the cyclic social graphs created by {@link KnowsGraph}, with up to 10^6 edges.
+ * <p>
+ * {@link #validate(ValidatorUnderTest, Graphs)} measures the time per validation. As the provider has to detect the
+ * already validated users to terminate, {@link #validateWithHeapProbes(ValidatorUnderTest, Graphs, RetainedHeap)}
+ * samples the heap retained by the provider during the validations with {@link HeapProbe} and logs the maximum of all
+ * iterations at the end of the trial. As the probes trigger garbage collections, the time of the latter benchmark is
+ * meaningless.
+ *
+ * @see CyclicGraphMemoryCheck
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CyclicGraphBenchmark {
+
+	private static final Logger logger = Logger.getLogger( CyclicGraphBenchmark.class.getName() );
+
+	private static final int HEAP_PROBES = 8;
+
+	@Benchmark
+	public Set<ConstraintViolation<User>> validate(ValidatorUnderTest validatorUnderTest, Graphs graphs) {
+		return validatorUnderTest.getValidator().validate( graphs.graph );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<User>> validateWithHeapProbes(ValidatorUnderTest validatorUnderTest, Graphs graphs,
+			RetainedHeap retainedHeap) {
+		Set<ConstraintViolation<User>> violations = validatorUnderTest.getValidator().validate( graphs.probedGraph );
+		retainedHeap.maxRetainedBytes = Math.max( retainedHeap.maxRetainedBytes, HeapProbe.Validator.getMaxRetainedBytes() );
+		return violations;
+	}
+
+	@State(Scope.Benchmark)
+	public static class Graphs {
+
+		@Param({ "1000", "10000", "100000", "1000000" })
+		public int edges;
+
+		private User graph;
+
+		private User probedGraph;
+
+		@Setup
+		public void setUp() {
+			graph = KnowsGraph.create( edges, 0 );
+			probedGraph = KnowsGraph.create( edges, HEAP_PROBES );
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class RetainedHeap {
+
+		private long maxRetainedBytes;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			HeapProbe.Validator.reset();
+		}
+
+		@TearDown(Level.Trial)
+		public void report(Graphs graphs) {
+			logger.info( "Maximum retained heap for " + graphs.edges + " edges: " + maxRetainedBytes + " bytes" );
+		}
+	}
+}
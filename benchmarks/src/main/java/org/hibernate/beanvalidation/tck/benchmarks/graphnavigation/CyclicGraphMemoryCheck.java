@@ -0,0 +1,88 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.graphnavigation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+
+/**
+ * Checks that the heap retained by the provider under test while validating the cyclic graphs of {@link KnowsGraph}
+ * grows at most linearly with the number of edges.
+ * <p>
+ * The graphs are validated with 10^3 to 10^6 edges. For each step, the retained heap may grow by at most the growth
+ * factor of the edges times {@value #TOLERANCE}. Retained heaps below {@value #NOISE_FLOOR_BYTES} bytes are considered
+ * noise and are compared as {@value #NOISE_FLOOR_BYTES} bytes. The check fails with an {@link AssertionError} if the
+ * growth is super-linear.
+ * <p>
+ * Run it with the provider under test on the class path, e.g. {@code java -Dvalidation.provider=<provider class> -cp
+ * benchmarks.jar org.hibernate.beanvalidation.tck.benchmarks.graphnavigation.CyclicGraphMemoryCheck}.
+ */
+public final class CyclicGraphMemoryCheck {
+
+	private static final int[] EDGES = { 1000, 10000, 100000, 1000000 };
+
+	private static final int HEAP_PROBES = 8;
+
+	private static final int WARMUP_VALIDATIONS = 10;
+
+	private static final double TOLERANCE = 1.5;
+
+	private static final long NOISE_FLOOR_BYTES = 1024 * 1024;
+
+	private static final Logger logger = Logger.getLogger( CyclicGraphMemoryCheck.class.getName() );
+
+	private CyclicGraphMemoryCheck() {
+	}
+
+	public static void main(String[] args) {
+		ValidatorFactory validatorFactory = TestUtil.getValidatorFactoryUnderTest();
+		try {
+			Validator validator = validatorFactory.getValidator();
+			for ( int i = 0; i < WARMUP_VALIDATIONS; i++ ) {
+				validator.validate( KnowsGraph.create( EDGES[0], 0 ) );
+			}
+
+			long[] retainedBytes = new long[EDGES.length];
+			for ( int i = 0; i < EDGES.length; i++ ) {
+				retainedBytes[i] = measureRetainedBytes( validator, EDGES[i] );
+				logger.info( "Retained heap for " + EDGES[i] + " edges: " + retainedBytes[i] + " bytes" );
+			}
+
+			List<String> failures = new ArrayList<String>();
+			for ( int i = 1; i < EDGES.length; i++ ) {
+				double allowedGrowth = (double) EDGES[i] / EDGES[i - 1] * TOLERANCE;
+				double growth = (double) retainedBytes[i] / Math.max( retainedBytes[i - 1], NOISE_FLOOR_BYTES );
+				if ( growth > allowedGrowth ) {
+					failures.add(
+							"from " + EDGES[i - 1] + " to " + EDGES[i] + " edges the retained heap grew by factor "
+									+ growth + ", at most " + allowedGrowth + " is allowed"
+					);
+				}
+			}
+
+			if ( !failures.isEmpty() ) {
+				throw new AssertionError( "The retained heap grows super-linearly: " + failures );
+			}
+			logger.info( "The retained heap grows at most linearly" );
+		}
+		finally {
+			validatorFactory.close();
+		}
+	}
+
+	private static long measureRetainedBytes(Validator validator, int edges) {
+		Object graph = KnowsGraph.create( edges, HEAP_PROBES );
+		HeapProbe.Validator.reset();
+		validator.validate( graph );
+		return HeapProbe.Validator.getMaxRetainedBytes();
+	}
+}
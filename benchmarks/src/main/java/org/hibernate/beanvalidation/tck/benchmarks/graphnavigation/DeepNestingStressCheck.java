@@ -0,0 +1,117 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.graphnavigation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Address;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.User;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+
+/**
+ * Checks that the provider under test validates chains of cascaded beans 10,000 and 100,000 levels deep on the default
+ * thread stack, i.e. without a {@link StackOverflowError}.
+ * <p>
+ * Two chains are validated: users knowing the next user via {@link User#knows(User)}, cascading over a list, and
+ * users alternating with addresses via {@link User#addAddress(Address)} and {@link Address#setInhabitant(User)},
+ * cascading over a list and a property. The time per level of the successful validations is logged. The check fails
+ * with an {@link AssertionError} if any of the validations overflows the stack.
+ * <p>
+ * Run it with the provider under test on the class path and without {@code -Xss}, e.g. {@code java
+ * -Dvalidation.provider=<provider class> -cp benchmarks.jar
+ * org.hibernate.beanvalidation.tck.benchmarks.graphnavigation.DeepNestingStressCheck}.
+ */
+public final class DeepNestingStressCheck {
+
+	private static final int[] DEPTHS = { 10000, 100000 };
+
+	private static final int WARMUP_DEPTH = 100;
+
+	private static final int WARMUP_VALIDATIONS = 100;
+
+	private static final int MEASURED_VALIDATIONS = 3;
+
+	private static final Logger logger = Logger.getLogger( DeepNestingStressCheck.class.getName() );
+
+	private DeepNestingStressCheck() {
+	}
+
+	public static void main(String[] args) {
+		ValidatorFactory validatorFactory = TestUtil.getValidatorFactoryUnderTest();
+		try {
+			Validator validator = validatorFactory.getValidator();
+			for ( int i = 0; i < WARMUP_VALIDATIONS; i++ ) {
+				validator.validate( createKnowsChain( WARMUP_DEPTH ) );
+				validator.validate( createAddressChain( WARMUP_DEPTH ) );
+			}
+
+			List<String> failures = new ArrayList<String>();
+			for ( int depth : DEPTHS ) {
+				check( validator, "knows() chain", createKnowsChain( depth ), depth, failures );
+				check( validator, "address chain", createAddressChain( depth ), depth, failures );
+			}
+
+			if ( !failures.isEmpty() ) {
+				throw new AssertionError( "Deeply nested beans could not be validated: " + failures );
+			}
+			logger.info( "All deeply nested beans were validated" );
+		}
+		finally {
+			validatorFactory.close();
+		}
+	}
+
+	private static void check(Validator validator, String name, Object chain, int depth, List<String> failures) {
+		try {
+			long start = System.nanoTime();
+			for ( int i = 0; i < MEASURED_VALIDATIONS; i++ ) {
+				validator.validate( chain );
+			}
+			long nanosPerLevel = ( System.nanoTime() - start ) / MEASURED_VALIDATIONS / depth;
+			logger.info( "Validated " + name + " of " + depth + " levels: " + nanosPerLevel + " ns per level" );
+		}
+		catch ( StackOverflowError e ) {
+			logger.warning( "Validation of " + name + " of " + depth + " levels overflowed the stack" );
+			failures.add( name + " of " + depth + " levels" );
+		}
+	}
+
+	/**
+	 * @return the first of {@code depth} users, each knowing the next one
+	 */
+	private static User createKnowsChain(int depth) {
+		User first = new User( "User", "0" );
+		User current = first;
+		for ( int i = 1; i < depth; i++ ) {
+			User next = new User( "User", String.valueOf( i ) );
+			current.knows( next );
+			current = next;
+		}
+		return first;
+	}
+
+	/**
+	 * @return the first of {@code depth} beans, alternating between users and addresses
+	 */
+	private static User createAddressChain(int depth) {
+		User first = new User( "User", "0" );
+		User current = first;
+		for ( int i = 1; i < depth; i += 2 ) {
+			Address address = new Address( "Main Street " + i, "12345", "Springfield" );
+			current.addAddress( address );
+			if ( i + 1 < depth ) {
+				current = new User( "User", String.valueOf( i + 1 ) );
+				address.setInhabitant( current );
+			}
+		}
+		return first;
+	}
+}
@@ -0,0 +1,74 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.graphnavigation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.Payload;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Class-level constraint which is always valid, but samples the used heap after a garbage collection whenever it is
+ * validated. Placed on a few beans of a graph, it shows how much heap the provider retains while traversing the graph,
+ * e.g. for tracking the already validated beans.
+ */
+@Target(TYPE)
+@Retention(RUNTIME)
+@Constraint(validatedBy = HeapProbe.Validator.class)
+@Documented
+public @interface HeapProbe {
+
+	String message() default "heap probe";
+
+	Class<?>[] groups() default { };
+
+	Class<? extends Payload>[] payload() default { };
+
+	class Validator implements ConstraintValidator<HeapProbe, Object> {
+
+		private static final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+
+		private static volatile long baselineBytes;
+
+		private static volatile long maxRetainedBytes;
+
+		/**
+		 * Records the used heap before a validation. The graph to validate must already be created.
+		 */
+		public static void reset() {
+			baselineBytes = getUsedHeapAfterGc();
+			maxRetainedBytes = 0;
+		}
+
+		/**
+		 * @return the maximum difference of the used heap to the baseline sampled since the last {@link #reset()}
+		 */
+		public static long getMaxRetainedBytes() {
+			return maxRetainedBytes;
+		}
+
+		@Override
+		public boolean isValid(Object value, ConstraintValidatorContext context) {
+			maxRetainedBytes = Math.max( maxRetainedBytes, getUsedHeapAfterGc() - baselineBytes );
+			return true;
+		}
+
+		private static long getUsedHeapAfterGc() {
+			System.gc();
+			System.gc();
+			return memoryMXBean.getHeapMemoryUsage().getUsed();
+		}
+	}
+}
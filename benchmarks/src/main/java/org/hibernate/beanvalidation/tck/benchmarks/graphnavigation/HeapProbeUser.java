@@ -0,0 +1,20 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.graphnavigation;
+
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.User;
+
+/**
+ * A {@link User} sampling the used heap when being validated.
+ */
+@HeapProbe
+public class HeapProbeUser extends User {
+
+	public HeapProbeUser(String firstName, String lastName) {
+		super( firstName, lastName );
+	}
+}
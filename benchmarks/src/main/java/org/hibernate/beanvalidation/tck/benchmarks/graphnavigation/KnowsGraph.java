@@ -0,0 +1,78 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.graphnavigation;
+
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.User;
+
+/**
+ * Creates cyclic social graphs of {@link User}s via {@link User#knows(User)}.
+ * <p>
+ * The users form a tree in which each user knows {@value #FRIENDS} new users, and each user knows all the users on the
+ * way back to the first user, so that the graph contains cycles of all lengths up to the depth of the tree. Every user
+ * is reachable via exactly one path which does not contain a cycle. That way the number of validated beans grows
+ * linearly with the size of the graph, also for providers validating a bean once per path as permitted by the
+ * specification.
+ */
+public final class KnowsGraph {
+
+	/**
+	 * The number of new users each user knows.
+	 */
+	private static final int FRIENDS = 10;
+
+	private KnowsGraph() {
+	}
+
+	/**
+	 * Creates a graph with (at least) the given number of edges.
+	 *
+	 * @param edges the number of edges
+	 * @param heapProbes the number of users, evenly spread over the graph, to be {@link HeapProbeUser}s
+	 *
+	 * @return the first user of the graph
+	 */
+	public static User create(int edges, int heapProbes) {
+		// the i-th user is known by user (i - 1) / FRIENDS, so its depth is the depth of that user plus one
+		int userCount = 1;
+		int edgeCount = 0;
+		int[] depths = new int[16];
+		while ( edgeCount < edges ) {
+			if ( userCount == depths.length ) {
+				int[] newDepths = new int[depths.length * 2];
+				System.arraycopy( depths, 0, newDepths, 0, depths.length );
+				depths = newDepths;
+			}
+			depths[userCount] = depths[( userCount - 1 ) / FRIENDS] + 1;
+			// the edge to the new user plus the edges back to all the users on the way
+			edgeCount += 1 + depths[userCount];
+			userCount++;
+		}
+
+		int probeDistance = heapProbes > 0 ? Math.max( 1, userCount / heapProbes ) : 0;
+		User[] users = new User[userCount];
+		for ( int i = 0; i < userCount; i++ ) {
+			if ( probeDistance > 0 && i % probeDistance == probeDistance - 1 ) {
+				users[i] = new HeapProbeUser( "User", String.valueOf( i ) );
+			}
+			else {
+				users[i] = new User( "User", String.valueOf( i ) );
+			}
+
+			if ( i > 0 ) {
+				users[( i - 1 ) / FRIENDS].knows( users[i] );
+				for ( int known = ( i - 1 ) / FRIENDS; ; known = ( known - 1 ) / FRIENDS ) {
+					users[i].knows( users[known] );
+					if ( known == 0 ) {
+						break;
+					}
+				}
+			}
+		}
+
+		return users[0];
+	}
+}
@@ -0,0 +1,44 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.groupconversion;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import javax.validation.groups.ConvertGroup;
+import javax.validation.groups.Default;
+
+import org.hibernate.beanvalidation.tck.tests.validation.groupconversion.BasicPostal;
+
+/**
+ * A node of a tree converting the validated group on each level, from {@link Default} to {@link BasicPostal} and back.
+ * The constraints of the node belong to both groups, so that the same constraints are evaluated as for a tree of
+ * {@link PlainNode}s.
+ */
+public class ConvertingNode {
+
+	@NotNull(groups = { Default.class, BasicPostal.class })
+	@Size(min = 1, groups = { Default.class, BasicPostal.class })
+	private final String name;
+
+	@Valid
+	@ConvertGroup.List({
+			@ConvertGroup(from = Default.class, to = BasicPostal.class),
+			@ConvertGroup(from = BasicPostal.class, to = Default.class)
+	})
+	private final List<ConvertingNode> children = new ArrayList<ConvertingNode>();
+
+	public ConvertingNode(String name) {
+		this.name = name;
+	}
+
+	public void addChild(ConvertingNode child) {
+		children.add( child );
+	}
+}
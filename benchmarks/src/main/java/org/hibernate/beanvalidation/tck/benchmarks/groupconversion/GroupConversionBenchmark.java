@@ -0,0 +1,138 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.groupconversion;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.hibernate.beanvalidation.tck.benchmarks.ValidatorUnderTest;
+
+/**
+ * Cascaded validation of a tree converting the validated group on every level, compared to the same tree without group
+ * conversion.
+ * <p>
+ * Each node of the trees has three children, up to the given number of levels. The nodes of both trees evaluate the
+ * same constraints, so the difference of the two benchmarks is the cost of the group conversion. Besides the
+ * validations per second, the number of validated nodes is reported as the {@code nodes} counter; the cost of
+ * resolving the conversion of one cascaded node is the difference of the reciprocals of the {@code nodes} rates of
+ * {@code validateConvertingTree} and {@code validatePlainTree}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroupConversionBenchmark {
+
+	@Benchmark
+	public Set<ConstraintViolation<ConvertingNode>> validateConvertingTree(ValidatorUnderTest validatorUnderTest,
+			Trees trees, ValidatedNodes validatedNodes) {
+		validatedNodes.nodes += trees.nodeCount;
+		return validatorUnderTest.getValidator().validate( trees.convertingTree );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<PlainNode>> validatePlainTree(ValidatorUnderTest validatorUnderTest, Trees trees,
+			ValidatedNodes validatedNodes) {
+		validatedNodes.nodes += trees.nodeCount;
+		return validatorUnderTest.getValidator().validate( trees.plainTree );
+	}
+
+	@State(Scope.Benchmark)
+	public static class Trees {
+
+		private static final int CHILDREN = 3;
+
+		@Param({ "1", "2", "4", "8" })
+		public int levels;
+
+		/**
+		 * The number of nodes of each of the trees.
+		 */
+		public int nodeCount;
+
+		private ConvertingNode convertingTree;
+
+		private PlainNode plainTree;
+
+		@Setup
+		public void setUp(ValidatorUnderTest validatorUnderTest) {
+			convertingTree = createConvertingTree( 1, "node" );
+			plainTree = createPlainTree( 1, "node" );
+
+			nodeCount = 0;
+			for ( int i = 0, nodesOfLevel = 1; i < levels; i++, nodesOfLevel *= CHILDREN ) {
+				nodeCount += nodesOfLevel;
+			}
+
+			// the invalid trees ensure that the cascades reach the leaves of both trees
+			Validator validator = validatorUnderTest.getValidator();
+			int leafCount = nodeCount - ( nodeCount - 1 ) / CHILDREN;
+			assertViolationCount( validator.validate( convertingTree ), 0 );
+			assertViolationCount( validator.validate( plainTree ), 0 );
+			assertViolationCount( validator.validate( createConvertingTree( 1, "" ) ), leafCount );
+			assertViolationCount( validator.validate( createPlainTree( 1, "" ) ), leafCount );
+		}
+
+		/**
+		 * Creates a tree whose leaves have the given name, the inner nodes are valid.
+		 */
+		private ConvertingNode createConvertingTree(int level, String leafName) {
+			ConvertingNode node = new ConvertingNode( level == levels ? leafName : "node" );
+			if ( level < levels ) {
+				for ( int i = 0; i < CHILDREN; i++ ) {
+					node.addChild( createConvertingTree( level + 1, leafName ) );
+				}
+			}
+			return node;
+		}
+
+		private PlainNode createPlainTree(int level, String leafName) {
+			PlainNode node = new PlainNode( level == levels ? leafName : "node" );
+			if ( level < levels ) {
+				for ( int i = 0; i < CHILDREN; i++ ) {
+					node.addChild( createPlainTree( level + 1, leafName ) );
+				}
+			}
+			return node;
+		}
+
+		private static void assertViolationCount(Set<? extends ConstraintViolation<?>> violations, int expected) {
+			if ( violations.size() != expected ) {
+				throw new IllegalStateException( "Expected " + expected + " constraint violations, but got " + violations.size() );
+			}
+		}
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class ValidatedNodes {
+
+		public long nodes;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			nodes = 0;
+		}
+	}
+}
@@ -0,0 +1,34 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.groupconversion;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+/**
+ * A node of a tree cascading without group conversion, the counterpart of {@link ConvertingNode}.
+ */
+public class PlainNode {
+
+	@NotNull
+	@Size(min = 1)
+	private final String name;
+
+	@Valid
+	private final List<PlainNode> children = new ArrayList<PlainNode>();
+
+	public PlainNode(String name) {
+		this.name = name;
+	}
+
+	public void addChild(PlainNode child) {
+		children.add( child );
+	}
+}
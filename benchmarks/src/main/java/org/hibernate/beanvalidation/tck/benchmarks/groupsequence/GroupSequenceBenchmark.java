@@ -0,0 +1,105 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.groupsequence;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.validation.ConstraintViolation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.hibernate.beanvalidation.tck.benchmarks.ValidatorUnderTest;
+
+/**
+ * Validation of sequences of 2 to 20 groups.
+ * <p>
+ * If the first group of a sequence fails, the following groups must not be processed, so the time of
+ * {@code validateFailingFirstGroup} should not depend on the length of the sequence, unlike {@code validateValid} and
+ * {@code validateFailingLastGroup}. {@code validateFailingFirstGroupWithoutSequence} validates the same bean for all
+ * the groups of the sequence without ordering them, showing the cost saved by the sequence.
+ * <p>
+ * The TCK checks that no constraint of the following groups is evaluated in {@code SequenceShortCircuitTest}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GroupSequenceBenchmark {
+
+	@Param({ "2", "5", "10", "20" })
+	public int sequenceLength;
+
+	private Class<?> sequence;
+
+	private Class<?>[] groups;
+
+	private SequencedBean validBean;
+
+	private SequencedBean failingFirstGroupBean;
+
+	private SequencedBean failingLastGroupBean;
+
+	@Setup
+	public void setUp(ValidatorUnderTest validatorUnderTest) {
+		sequence = SequencedBean.getSequence( sequenceLength );
+		groups = SequencedBean.getGroups( sequenceLength );
+
+		validBean = new SequencedBean( 0 );
+		failingFirstGroupBean = new SequencedBean( 1 );
+		failingLastGroupBean = new SequencedBean( sequenceLength );
+
+		assertViolation( validateValid( validatorUnderTest ), null );
+		assertViolation( validateFailingFirstGroup( validatorUnderTest ), "value1" );
+		assertViolation( validateFailingLastGroup( validatorUnderTest ), "value" + sequenceLength );
+		assertViolation( validateFailingFirstGroupWithoutSequence( validatorUnderTest ), "value1" );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<SequencedBean>> validateValid(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getValidator().validate( validBean, sequence );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<SequencedBean>> validateFailingFirstGroup(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getValidator().validate( failingFirstGroupBean, sequence );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<SequencedBean>> validateFailingLastGroup(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getValidator().validate( failingLastGroupBean, sequence );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<SequencedBean>> validateFailingFirstGroupWithoutSequence(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getValidator().validate( failingFirstGroupBean, groups );
+	}
+
+	/**
+	 * Checks that the given violations consist of one violation of the given property, or are empty if no property is
+	 * given.
+	 */
+	private static void assertViolation(Set<ConstraintViolation<SequencedBean>> violations, String propertyPath) {
+		boolean expected = propertyPath == null ?
+				violations.isEmpty() :
+				violations.size() == 1 && propertyPath.equals( violations.iterator().next().getPropertyPath().toString() );
+		if ( !expected ) {
+			throw new IllegalStateException( "Unexpected constraint violations " + violations + ", expected " + propertyPath );
+		}
+	}
+}
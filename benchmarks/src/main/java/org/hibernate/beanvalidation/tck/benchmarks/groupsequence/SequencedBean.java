@@ -0,0 +1,225 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.groupsequence;
+
+import javax.validation.GroupSequence;
+import javax.validation.constraints.NotNull;
+
+/**
+ * A bean with one constraint in each of the groups {@code Group1} to {@code Group20}, and sequences of the first 2, 5,
+ * 10 and 20 of these groups.
+ */
+public class SequencedBean {
+
+	private static final Class<?>[] GROUPS = {
+			Group1.class, Group2.class, Group3.class, Group4.class, Group5.class,
+			Group6.class, Group7.class, Group8.class, Group9.class, Group10.class,
+			Group11.class, Group12.class, Group13.class, Group14.class, Group15.class,
+			Group16.class, Group17.class, Group18.class, Group19.class, Group20.class
+	};
+
+	@NotNull(groups = Group1.class)
+	private final String value1;
+
+	@NotNull(groups = Group2.class)
+	private final String value2;
+
+	@NotNull(groups = Group3.class)
+	private final String value3;
+
+	@NotNull(groups = Group4.class)
+	private final String value4;
+
+	@NotNull(groups = Group5.class)
+	private final String value5;
+
+	@NotNull(groups = Group6.class)
+	private final String value6;
+
+	@NotNull(groups = Group7.class)
+	private final String value7;
+
+	@NotNull(groups = Group8.class)
+	private final String value8;
+
+	@NotNull(groups = Group9.class)
+	private final String value9;
+
+	@NotNull(groups = Group10.class)
+	private final String value10;
+
+	@NotNull(groups = Group11.class)
+	private final String value11;
+
+	@NotNull(groups = Group12.class)
+	private final String value12;
+
+	@NotNull(groups = Group13.class)
+	private final String value13;
+
+	@NotNull(groups = Group14.class)
+	private final String value14;
+
+	@NotNull(groups = Group15.class)
+	private final String value15;
+
+	@NotNull(groups = Group16.class)
+	private final String value16;
+
+	@NotNull(groups = Group17.class)
+	private final String value17;
+
+	@NotNull(groups = Group18.class)
+	private final String value18;
+
+	@NotNull(groups = Group19.class)
+	private final String value19;
+
+	@NotNull(groups = Group20.class)
+	private final String value20;
+
+	/**
+	 * @param invalidValue the number of the value violating its constraint, 0 for a valid bean
+	 */
+	public SequencedBean(int invalidValue) {
+		value1 = valueOf( 1, invalidValue );
+		value2 = valueOf( 2, invalidValue );
+		value3 = valueOf( 3, invalidValue );
+		value4 = valueOf( 4, invalidValue );
+		value5 = valueOf( 5, invalidValue );
+		value6 = valueOf( 6, invalidValue );
+		value7 = valueOf( 7, invalidValue );
+		value8 = valueOf( 8, invalidValue );
+		value9 = valueOf( 9, invalidValue );
+		value10 = valueOf( 10, invalidValue );
+		value11 = valueOf( 11, invalidValue );
+		value12 = valueOf( 12, invalidValue );
+		value13 = valueOf( 13, invalidValue );
+		value14 = valueOf( 14, invalidValue );
+		value15 = valueOf( 15, invalidValue );
+		value16 = valueOf( 16, invalidValue );
+		value17 = valueOf( 17, invalidValue );
+		value18 = valueOf( 18, invalidValue );
+		value19 = valueOf( 19, invalidValue );
+		value20 = valueOf( 20, invalidValue );
+	}
+
+	/**
+	 * @return the sequence of the first {@code length} groups
+	 */
+	public static Class<?> getSequence(int length) {
+		switch ( length ) {
+			case 2:
+				return Sequence2.class;
+			case 5:
+				return Sequence5.class;
+			case 10:
+				return Sequence10.class;
+			case 20:
+				return Sequence20.class;
+			default:
+				throw new IllegalArgumentException( "No sequence of length " + length + " is defined" );
+		}
+	}
+
+	/**
+	 * @return the first {@code count} groups, i.e. the groups of the sequence of length {@code count}
+	 */
+	public static Class<?>[] getGroups(int count) {
+		Class<?>[] groups = new Class<?>[count];
+		System.arraycopy( GROUPS, 0, groups, 0, count );
+		return groups;
+	}
+
+	private static String valueOf(int number, int invalidValue) {
+		return number == invalidValue ? null : "value" + number;
+	}
+
+	public interface Group1 {
+	}
+
+	public interface Group2 {
+	}
+
+	public interface Group3 {
+	}
+
+	public interface Group4 {
+	}
+
+	public interface Group5 {
+	}
+
+	public interface Group6 {
+	}
+
+	public interface Group7 {
+	}
+
+	public interface Group8 {
+	}
+
+	public interface Group9 {
+	}
+
+	public interface Group10 {
+	}
+
+	public interface Group11 {
+	}
+
+	public interface Group12 {
+	}
+
+	public interface Group13 {
+	}
+
+	public interface Group14 {
+	}
+
+	public interface Group15 {
+	}
+
+	public interface Group16 {
+	}
+
+	public interface Group17 {
+	}
+
+	public interface Group18 {
+	}
+
+	public interface Group19 {
+	}
+
+	public interface Group20 {
+	}
+
+	@GroupSequence({ Group1.class, Group2.class })
+	public interface Sequence2 {
+	}
+
+	@GroupSequence({ Group1.class, Group2.class, Group3.class, Group4.class, Group5.class })
+	public interface Sequence5 {
+	}
+
+	@GroupSequence({
+			Group1.class, Group2.class, Group3.class, Group4.class, Group5.class,
+			Group6.class, Group7.class, Group8.class, Group9.class, Group10.class
+	})
+	public interface Sequence10 {
+	}
+
+	@GroupSequence({
+			Group1.class, Group2.class, Group3.class, Group4.class, Group5.class,
+			Group6.class, Group7.class, Group8.class, Group9.class, Group10.class,
+			Group11.class, Group12.class, Group13.class, Group14.class, Group15.class,
+			Group16.class, Group17.class, Group18.class, Group19.class, Group20.class
+	})
+	public interface Sequence20 {
+	}
+}
@@ -0,0 +1,52 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.messageinterpolation;
+
+import java.math.BigDecimal;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Digits;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+/**
+ * A record of a bulk import violating each of its constraints, all of them using the default message template.
+ */
+public class ImportRecord {
+
+	/**
+	 * The number of constraint violations of a record.
+	 */
+	public static final int VIOLATION_COUNT = 8;
+
+	@NotNull
+	private final String id = null;
+
+	@Size(min = 1, max = 20)
+	private final String name = "";
+
+	@Pattern(regexp = "[A-Z][A-Z][A-Z]")
+	private final String currency = "euro";
+
+	@Min(1)
+	private final int quantity = 0;
+
+	@Max(100)
+	private final int discount = 101;
+
+	@DecimalMin("0.01")
+	private final BigDecimal price = BigDecimal.ZERO;
+
+	@DecimalMax(value = "1000", inclusive = false)
+	private final BigDecimal total = new BigDecimal( "1000" );
+
+	@Digits(integer = 3, fraction = 2)
+	private final BigDecimal weight = new BigDecimal( "1.234" );
+}
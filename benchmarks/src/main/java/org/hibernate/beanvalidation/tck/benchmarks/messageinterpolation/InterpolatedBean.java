@@ -0,0 +1,29 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.messageinterpolation;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+/**
+ * Provides the constraint descriptors of the message templates interpolated by {@link MessageInterpolationBenchmark}.
+ */
+public class InterpolatedBean {
+
+	@NotNull(message = "must not be null")
+	String plain;
+
+	@Size(min = 5, max = 10, message = "size must be between {min} and {max}")
+	String attributes;
+
+	@Min(value = 5, message = "${validatedValue} must be at least {value}")
+	Integer expression;
+
+	@Size(min = 5, max = 10)
+	String bundle;
+}
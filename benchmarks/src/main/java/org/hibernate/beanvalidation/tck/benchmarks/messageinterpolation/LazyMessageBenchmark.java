@@ -0,0 +1,106 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.messageinterpolation;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.validation.ConstraintViolation;
+import javax.validation.MessageInterpolator;
+import javax.validation.Validator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.hibernate.beanvalidation.tck.benchmarks.ValidatorUnderTest;
+
+/**
+ * Validation of a bean with eight constraint violations, whose callers only read the property paths of the violations
+ * or also their messages.
+ * <p>
+ * If the provider interpolates the messages lazily, {@code validateAndReadPaths} is about as fast as
+ * {@code validateAndReadPathsWithoutInterpolation}, which uses a message interpolator returning the message template
+ * as is. If the provider interpolates eagerly, it is about as slow as {@code validateAndReadMessages}. The optional
+ * TCK test {@code LazyMessageInterpolationTest} reports whether the provider interpolates eagerly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LazyMessageBenchmark {
+
+	private final ImportRecord record = new ImportRecord();
+
+	private Validator validator;
+
+	private Validator validatorWithoutInterpolation;
+
+	@Setup
+	public void setUp(ValidatorUnderTest validatorUnderTest) {
+		validator = validatorUnderTest.getValidator();
+		validatorWithoutInterpolation = validatorUnderTest.getValidatorFactory()
+				.usingContext()
+				.messageInterpolator( new TemplateReturningMessageInterpolator() )
+				.getValidator();
+
+		Set<ConstraintViolation<ImportRecord>> violations = validator.validate( record );
+		if ( violations.size() != ImportRecord.VIOLATION_COUNT ) {
+			throw new IllegalStateException( "Expected " + ImportRecord.VIOLATION_COUNT + " constraint violations, but got " + violations );
+		}
+		for ( ConstraintViolation<ImportRecord> violation : violations ) {
+			if ( violation.getMessage().contains( "{" ) ) {
+				throw new IllegalStateException( "Message not interpolated: " + violation.getMessage() );
+			}
+		}
+	}
+
+	@Benchmark
+	public void validateAndReadPaths(Blackhole blackhole) {
+		for ( ConstraintViolation<ImportRecord> violation : validator.validate( record ) ) {
+			blackhole.consume( violation.getPropertyPath() );
+		}
+	}
+
+	@Benchmark
+	public void validateAndReadMessages(Blackhole blackhole) {
+		for ( ConstraintViolation<ImportRecord> violation : validator.validate( record ) ) {
+			blackhole.consume( violation.getPropertyPath() );
+			blackhole.consume( violation.getMessage() );
+		}
+	}
+
+	@Benchmark
+	public void validateAndReadPathsWithoutInterpolation(Blackhole blackhole) {
+		for ( ConstraintViolation<ImportRecord> violation : validatorWithoutInterpolation.validate( record ) ) {
+			blackhole.consume( violation.getPropertyPath() );
+		}
+	}
+
+	private static class TemplateReturningMessageInterpolator implements MessageInterpolator {
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			return messageTemplate;
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			return messageTemplate;
+		}
+	}
+}
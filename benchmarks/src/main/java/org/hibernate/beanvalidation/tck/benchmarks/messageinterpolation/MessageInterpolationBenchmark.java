@@ -0,0 +1,159 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.messageinterpolation;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import javax.validation.MessageInterpolator;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.metadata.ConstraintDescriptor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.hibernate.beanvalidation.tck.benchmarks.ValidatorUnderTest;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+
+/**
+ * Interpolation of message templates by the default message interpolator of the provider under test, as returned by
+ * {@link TestUtil#getDefaultMessageInterpolator()}.
+ * <p>
+ * The templates are a plain text, a text with {@code {attribute}} parameters, a text with a {@code ${validatedValue}}
+ * expression, and the default template of {@code @Size}, which is looked up in the resource bundle of the provider for
+ * the given locale. The locale {@code ja} is used to measure the fallback to the default bundle if the provider has no
+ * bundle for the locale. The allocation per interpolation is the {@code gc.alloc.rate.norm} reported by
+ * {@code -prof gc}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageInterpolationBenchmark {
+
+	private MessageInterpolator interpolator;
+
+	private Template plain;
+
+	private Template attributes;
+
+	private Template expression;
+
+	private Template bundle;
+
+	@Setup
+	public void setUp(ValidatorUnderTest validatorUnderTest) {
+		interpolator = TestUtil.getDefaultMessageInterpolator();
+
+		Validator validator = validatorUnderTest.getValidator();
+		plain = new Template( getDescriptorFor( validator, "plain" ), null );
+		attributes = new Template( getDescriptorFor( validator, "attributes" ), "abc" );
+		expression = new Template( getDescriptorFor( validator, "expression" ), 3 );
+		bundle = new Template( getDescriptorFor( validator, "bundle" ), "abc" );
+
+		assertMessage( interpolatePlain(), "must not be null" );
+		assertMessage( interpolateAttributes(), "size must be between 5 and 10" );
+		assertMessage( interpolateExpression(), "3 must be at least 5" );
+	}
+
+	@Benchmark
+	public String interpolatePlain() {
+		return interpolator.interpolate( plain.messageTemplate, plain );
+	}
+
+	@Benchmark
+	public String interpolateAttributes() {
+		return interpolator.interpolate( attributes.messageTemplate, attributes );
+	}
+
+	@Benchmark
+	public String interpolateExpression() {
+		return interpolator.interpolate( expression.messageTemplate, expression );
+	}
+
+	@Benchmark
+	public String interpolateBundle(Locales locales) {
+		return interpolator.interpolate( bundle.messageTemplate, bundle, locales.locale );
+	}
+
+	@State(Scope.Benchmark)
+	public static class Locales {
+
+		@Param({ "en", "de", "zh-CN", "ja" })
+		public String languageTag;
+
+		private Locale locale;
+
+		@Setup
+		public void setUp(MessageInterpolationBenchmark benchmark) {
+			locale = Locale.forLanguageTag( languageTag );
+
+			String message = benchmark.interpolateBundle( this );
+			if ( message.contains( "{" ) || !message.contains( "5" ) || !message.contains( "10" ) ) {
+				throw new IllegalStateException( "Unexpected message for locale " + locale + ": " + message );
+			}
+		}
+	}
+
+	private static ConstraintDescriptor<?> getDescriptorFor(Validator validator, String propertyName) {
+		return validator.getConstraintsForClass( InterpolatedBean.class )
+				.getConstraintsForProperty( propertyName )
+				.getConstraintDescriptors()
+				.iterator()
+				.next();
+	}
+
+	private static void assertMessage(String actual, String expected) {
+		if ( !expected.equals( actual ) ) {
+			throw new IllegalStateException( "Expected message '" + expected + "', but got '" + actual + "'" );
+		}
+	}
+
+	/**
+	 * The context of a message template, i.e. the constraint descriptor and the validated value.
+	 */
+	private static class Template implements MessageInterpolator.Context {
+
+		private final ConstraintDescriptor<?> descriptor;
+
+		private final Object validatedValue;
+
+		private final String messageTemplate;
+
+		private Template(ConstraintDescriptor<?> descriptor, Object validatedValue) {
+			this.descriptor = descriptor;
+			this.validatedValue = validatedValue;
+			this.messageTemplate = descriptor.getMessageTemplate();
+		}
+
+		@Override
+		public ConstraintDescriptor<?> getConstraintDescriptor() {
+			return descriptor;
+		}
+
+		@Override
+		public Object getValidatedValue() {
+			return validatedValue;
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> type) {
+			throw new ValidationException( "Type " + type + " not supported" );
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.metadata;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.validation.Validator;
+import javax.validation.groups.Default;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.MethodDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.hibernate.beanvalidation.tck.benchmarks.FreshValidatorUnderTest;
+import org.hibernate.beanvalidation.tck.benchmarks.ValidatorUnderTest;
+import org.hibernate.beanvalidation.tck.tests.metadata.Customer;
+import org.hibernate.beanvalidation.tck.tests.metadata.CustomerService;
+import org.hibernate.beanvalidation.tck.tests.metadata.Order;
+import org.hibernate.beanvalidation.tck.tests.metadata.SubClass;
+
+/**
+ * Retrieval of the constraint metadata of the models of {@code BeanDescriptorTest}, {@code ExecutableDescriptorTest}
+ * and {@code ElementDescriptorTest}, on repeated access to a warm validator factory and on first access to a new one.
+ * <p>
+ * Each benchmark starts from {@link Validator#getConstraintsForClass(Class)}, as done by a caller looking up the
+ * metadata per request. If the provider caches the metadata, the repeated access is orders of magnitude faster than
+ * the first one measured by the {@code cold...} benchmarks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetadataBenchmark {
+
+	private Class<?> basicGroup;
+
+	@Setup
+	public void setUp(ValidatorUnderTest validatorUnderTest) throws Exception {
+		// the group is not visible outside of the package of the model
+		basicGroup = Class.forName( "org.hibernate.beanvalidation.tck.tests.metadata.SuperClass$BasicGroup" );
+
+		Validator validator = validatorUnderTest.getValidator();
+		if ( getConstraintsForMethod( validator ) == null ) {
+			throw new IllegalStateException( "No method descriptor for CustomerService#createCustomer()" );
+		}
+		int constraintCount = findConstraintsMatchingGroups( validator ).size();
+		if ( constraintCount != 2 ) {
+			throw new IllegalStateException( "Expected 2 constraints of SubClass#myField, but got " + constraintCount );
+		}
+	}
+
+	@Benchmark
+	public BeanDescriptor getConstraintsForClass(ValidatorUnderTest validatorUnderTest, Beans beans) {
+		return validatorUnderTest.getValidator().getConstraintsForClass( beans.beanClass );
+	}
+
+	@Benchmark
+	public Set<PropertyDescriptor> getConstrainedProperties(ValidatorUnderTest validatorUnderTest, Beans beans) {
+		return validatorUnderTest.getValidator().getConstraintsForClass( beans.beanClass ).getConstrainedProperties();
+	}
+
+	@Benchmark
+	public MethodDescriptor getConstraintsForMethod(ValidatorUnderTest validatorUnderTest) {
+		return getConstraintsForMethod( validatorUnderTest.getValidator() );
+	}
+
+	@Benchmark
+	public Set<ConstraintDescriptor<?>> findConstraintsMatchingGroups(ValidatorUnderTest validatorUnderTest) {
+		return findConstraintsMatchingGroups( validatorUnderTest.getValidator() );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 50)
+	public Set<PropertyDescriptor> coldGetConstrainedProperties(FreshValidatorUnderTest freshValidatorUnderTest,
+			Beans beans) {
+		return freshValidatorUnderTest.getValidator().getConstraintsForClass( beans.beanClass ).getConstrainedProperties();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 50)
+	public MethodDescriptor coldGetConstraintsForMethod(FreshValidatorUnderTest freshValidatorUnderTest) {
+		return getConstraintsForMethod( freshValidatorUnderTest.getValidator() );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 50)
+	public Set<ConstraintDescriptor<?>> coldFindConstraintsMatchingGroups(FreshValidatorUnderTest freshValidatorUnderTest) {
+		return findConstraintsMatchingGroups( freshValidatorUnderTest.getValidator() );
+	}
+
+	private static MethodDescriptor getConstraintsForMethod(Validator validator) {
+		return validator.getConstraintsForClass( CustomerService.class )
+				.getConstraintsForMethod( "createCustomer", String.class, String.class );
+	}
+
+	private Set<ConstraintDescriptor<?>> findConstraintsMatchingGroups(Validator validator) {
+		return validator.getConstraintsForClass( SubClass.class )
+				.getConstraintsForProperty( "myField" )
+				.findConstraints()
+				.unorderedAndMatchingGroups( Default.class, basicGroup )
+				.getConstraintDescriptors();
+	}
+
+	@State(Scope.Benchmark)
+	public static class Beans {
+
+		@Param({ "Customer", "Order", "SubClass" })
+		public String beanName;
+
+		private Class<?> beanClass;
+
+		@Setup
+		public void setUp() {
+			if ( "Customer".equals( beanName ) ) {
+				beanClass = Customer.class;
+			}
+			else if ( "Order".equals( beanName ) ) {
+				beanClass = Order.class;
+			}
+			else if ( "SubClass".equals( beanName ) ) {
+				beanClass = SubClass.class;
+			}
+			else {
+				throw new IllegalArgumentException( "Unknown bean " + beanName );
+			}
+		}
+	}
+}
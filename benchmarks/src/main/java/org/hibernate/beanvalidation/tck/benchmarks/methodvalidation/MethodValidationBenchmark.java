@@ -0,0 +1,163 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.methodvalidation;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.validation.ConstraintViolation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.hibernate.beanvalidation.tck.benchmarks.FreshValidatorUnderTest;
+import org.hibernate.beanvalidation.tck.benchmarks.ValidatorUnderTest;
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.model.Customer;
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.model.Item;
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.model.Order;
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.model.User;
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.service.OrderService;
+
+/**
+ * Method and constructor validation of the models of {@code ValidateParametersTest}, {@code ValidateReturnValueTest},
+ * {@code ValidateConstructorParametersTest}, {@code ValidateConstructorReturnValueTest} and {@code MethodValidationTest}.
+ * <p>
+ * Each of the four {@code ExecutableValidator} methods is measured with valid and invalid values, as well as the
+ * parameters and return value of {@code OrderService#placeOrder()}, which cascade to the item and order. The
+ * {@code cold} benchmark measures the first parameter validation of a new validator factory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MethodValidationBenchmark {
+
+	private final Object[] validNames = { "Bob", "Smith" };
+
+	private final Object[] invalidNames = { null, "S" };
+
+	private final Object[] validOrder = { "Bob", new Item( "Screwdriver" ), 1 };
+
+	private final Object[] invalidOrder = { null, new Item( "Nut" ), 0 };
+
+	private final User user = new User();
+
+	private final Customer customer = new Customer();
+
+	private final OrderService orderService = new OrderService();
+
+	private final Customer validCustomer = new Customer( "Bob" );
+
+	private final Customer invalidCustomer = new Customer( (String) null );
+
+	private final Order validPlacedOrder = new Order( "Order 42" );
+
+	private final Order invalidPlacedOrder = new Order( "42" );
+
+	private Method setNames;
+
+	private Constructor<User> userConstructor;
+
+	private Method getFirstName;
+
+	private Constructor<Customer> customerConstructor;
+
+	private Method placeOrder;
+
+	@Setup
+	public void setUp() throws Exception {
+		setNames = User.class.getMethod( "setNames", String.class, CharSequence.class );
+		userConstructor = User.class.getConstructor( String.class, CharSequence.class );
+		getFirstName = Customer.class.getMethod( "getFirstName", String.class );
+		customerConstructor = Customer.class.getConstructor( String.class );
+		placeOrder = OrderService.class.getMethod( "placeOrder", String.class, Item.class, Integer.class );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<User>> validateParametersValid(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getExecutableValidator().validateParameters( user, setNames, validNames );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<User>> validateParametersInvalid(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getExecutableValidator().validateParameters( user, setNames, invalidNames );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Customer>> validateReturnValueValid(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getExecutableValidator().validateReturnValue( customer, getFirstName, "aaa" );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Customer>> validateReturnValueInvalid(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getExecutableValidator().validateReturnValue( customer, getFirstName, "S" );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<User>> validateConstructorParametersValid(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getExecutableValidator().validateConstructorParameters( userConstructor, validNames );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<User>> validateConstructorParametersInvalid(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getExecutableValidator().validateConstructorParameters( userConstructor, invalidNames );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Customer>> validateConstructorReturnValueValid(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getExecutableValidator()
+				.validateConstructorReturnValue( customerConstructor, validCustomer );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Customer>> validateConstructorReturnValueInvalid(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getExecutableValidator()
+				.validateConstructorReturnValue( customerConstructor, invalidCustomer );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<OrderService>> validateCascadedParametersValid(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getExecutableValidator().validateParameters( orderService, placeOrder, validOrder );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<OrderService>> validateCascadedParametersInvalid(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getExecutableValidator().validateParameters( orderService, placeOrder, invalidOrder );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<OrderService>> validateCascadedReturnValueValid(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getExecutableValidator()
+				.validateReturnValue( orderService, placeOrder, validPlacedOrder );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<OrderService>> validateCascadedReturnValueInvalid(ValidatorUnderTest validatorUnderTest) {
+		return validatorUnderTest.getExecutableValidator()
+				.validateReturnValue( orderService, placeOrder, invalidPlacedOrder );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 50)
+	public Set<ConstraintViolation<User>> cold(FreshValidatorUnderTest freshValidatorUnderTest) {
+		return freshValidatorUnderTest.getValidator().forExecutables().validateParameters( user, setNames, validNames );
+	}
+}
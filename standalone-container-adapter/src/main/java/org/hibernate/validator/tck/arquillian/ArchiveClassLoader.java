@@ -6,61 +6,188 @@
  */
 package org.hibernate.validator.tck.arquillian;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ArchivePath;
+import org.jboss.shrinkwrap.api.Node;
 import org.jboss.shrinkwrap.api.asset.Asset;
-import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
-import org.jboss.shrinkwrap.api.asset.FileAsset;
 import org.jboss.shrinkwrap.api.spec.WebArchive;
 
 /**
+ * Class loader exposing the classes and resources of a deployed archive.
+ * <p>
+ * The archive content is indexed once when the loader is created, keyed by the resource name relative to the class
+ * path root of the archive (i.e. {@code WEB-INF/classes/} is stripped for web archives). Resources of the archive are
+ * served from this index ahead of the parent class loader, via {@code archive:} URLs backed by an in-memory
+ * {@link URLStreamHandler}, so no temporary files are needed. Classes which cannot be loaded by the parent class
+ * loader are defined from their bytes in the archive.
+ *
  * @author Hardy Ferentschik
  */
 public class ArchiveClassLoader extends URLClassLoader {
-	private static final String WEB_ARCHIVE_PREFIX = "WEB-INF/classes/";
-	private static final String EMPTY_PREFIX = "";
-	private final Archive archive;
-	private final String archivePrefix;
+	private static final String WEB_ARCHIVE_PREFIX = "/WEB-INF/classes/";
+	private static final String EMPTY_PREFIX = "/";
+	private static final String ARCHIVE_PROTOCOL = "archive";
+	private static final String CLASS_FILE_EXTENSION = ".class";
+
+	private final Map<String, Asset> index;
+	private final URLStreamHandler urlStreamHandler;
 
-	public ArchiveClassLoader(ClassLoader classLoader, Archive archive) {
+	public ArchiveClassLoader(ClassLoader classLoader, Archive<?> archive) {
 		super( new URL[] { }, classLoader );
-		this.archive = archive;
+		String archivePrefix;
 		if ( archive instanceof WebArchive ) {
 			archivePrefix = WEB_ARCHIVE_PREFIX;
 		}
 		else {
 			archivePrefix = EMPTY_PREFIX;
 		}
+		this.index = buildIndex( archive, archivePrefix );
+		this.urlStreamHandler = new ArchiveURLStreamHandler();
 	}
 
+	@Override
 	public InputStream getResourceAsStream(String name) {
-		if ( archive.get( archivePrefix + name ) != null ) {
-			return loadFromArchive( archivePrefix + name );
+		Asset asset = index.get( name );
+		if ( asset != null ) {
+			return asset.openStream();
 		}
 		else {
 			return super.getResourceAsStream( name );
 		}
 	}
 
-	private InputStream loadFromArchive(String name) {
-		Asset asset = archive.get( name ).getAsset();
+	@Override
+	public URL getResource(String name) {
+		URL url = findArchiveResource( name );
+		if ( url != null ) {
+			return url;
+		}
+		else {
+			return super.getResource( name );
+		}
+	}
 
-		InputStream in;
-		if ( asset instanceof FileAsset ) {
-			in = asset.openStream();
+	@Override
+	public Enumeration<URL> getResources(String name) throws IOException {
+		URL url = findArchiveResource( name );
+		if ( url == null ) {
+			return super.getResources( name );
 		}
-		else if ( asset instanceof ByteArrayAsset ) {
-			in = asset.openStream();
+
+		List<URL> urls = new ArrayList<URL>();
+		urls.add( url );
+		urls.addAll( Collections.list( super.getResources( name ) ) );
+		return Collections.enumeration( urls );
+	}
+
+	@Override
+	protected Class<?> findClass(String name) throws ClassNotFoundException {
+		Asset asset = index.get( name.replace( '.', '/' ) + CLASS_FILE_EXTENSION );
+		if ( asset == null ) {
+			return super.findClass( name );
 		}
-		else {
-			throw new RuntimeException( "Unsupported asset type " + asset.toString() );
+
+		byte[] bytes;
+		try {
+			bytes = readBytes( asset.openStream() );
+		}
+		catch ( IOException e ) {
+			throw new ClassNotFoundException( "Unable to read class " + name + " from archive", e );
+		}
+
+		int lastDot = name.lastIndexOf( '.' );
+		if ( lastDot > 0 ) {
+			String packageName = name.substring( 0, lastDot );
+			// getPackage() is deprecated as of Java 9, but its replacement getDefinedPackage() is not available in the
+			// Java 8 target; unlike the latter it also finds the packages of the parents, which must not be redefined
+			@SuppressWarnings("deprecation")
+			Package pkg = getPackage( packageName );
+			if ( pkg == null ) {
+				definePackage( packageName, null, null, null, null, null, null, null );
+			}
 		}
 
-		return in;
+		return defineClass( name, bytes, 0, bytes.length );
 	}
-}
 
+	private URL findArchiveResource(String name) {
+		if ( !index.containsKey( name ) ) {
+			return null;
+		}
 
+		try {
+			return new URL( ARCHIVE_PROTOCOL, null, -1, "/" + name, urlStreamHandler );
+		}
+		catch ( MalformedURLException e ) {
+			throw new RuntimeException( "Unable to create URL for archive resource " + name, e );
+		}
+	}
+
+	private static Map<String, Asset> buildIndex(Archive<?> archive, String archivePrefix) {
+		Map<String, Asset> index = new HashMap<String, Asset>();
+		for ( Map.Entry<ArchivePath, Node> entry : archive.getContent().entrySet() ) {
+			String path = entry.getKey().get();
+			Asset asset = entry.getValue().getAsset();
+			if ( asset != null && path.startsWith( archivePrefix ) ) {
+				index.put( path.substring( archivePrefix.length() ), asset );
+			}
+		}
+		return index;
+	}
+
+	private static byte[] readBytes(InputStream in) throws IOException {
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			int read;
+			while ( ( read = in.read( buffer ) ) != -1 ) {
+				out.write( buffer, 0, read );
+			}
+			return out.toByteArray();
+		}
+		finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Resolves {@code archive:} URLs against the index of this class loader.
+	 */
+	private class ArchiveURLStreamHandler extends URLStreamHandler {
+
+		@Override
+		protected URLConnection openConnection(URL url) throws IOException {
+			final Asset asset = index.get( url.getPath().substring( 1 ) );
+			if ( asset == null ) {
+				throw new IOException( "Resource " + url + " does not exist in archive" );
+			}
+
+			return new URLConnection( url ) {
+				@Override
+				public void connect() {
+					connected = true;
+				}
+
+				@Override
+				public InputStream getInputStream() {
+					return asset.openStream();
+				}
+			};
+		}
+	}
+}
@@ -17,12 +17,17 @@ import org.jboss.shrinkwrap.api.Archive;
 import org.jboss.shrinkwrap.descriptor.api.Descriptor;
 
 /**
- * A dummy Arquillian container in order to run test locally
+ * A dummy Arquillian container in order to run test locally.
+ * <p>
+ * Deployments are bound to the thread performing them: the context class loader which is replaced by
+ * {@link #deploy(Archive)} is kept per thread and restored by {@link #undeploy(Archive)} on that same thread. This
+ * allows to run the TCK with TestNG's {@code parallel="classes"} mode, where each test class is deployed, executed
+ * and undeployed on its own thread.
  *
  * @author Hardy Ferentschik
  */
 public class BeanValidationLocalContainer implements ContainerConfiguration, DeployableContainer {
-	private ClassLoader originalContextClassLoader;
+	private final ThreadLocal<ClassLoader> originalContextClassLoader = new ThreadLocal<ClassLoader>();
 
 	@Override
 	public Class getConfigurationClass() {
@@ -48,9 +53,10 @@ public class BeanValidationLocalContainer implements ContainerConfiguration, Dep
 
 	@Override
 	public ProtocolMetaData deploy(Archive archive) throws DeploymentException {
-		originalContextClassLoader = Thread.currentThread().getContextClassLoader();
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		originalContextClassLoader.set( contextClassLoader );
 		ArchiveClassLoader archiveClassLoader = new ArchiveClassLoader(
-				originalContextClassLoader,
+				contextClassLoader,
 				archive
 		);
 		Thread.currentThread().setContextClassLoader( archiveClassLoader );
@@ -59,8 +65,10 @@ public class BeanValidationLocalContainer implements ContainerConfiguration, Dep
 
 	@Override
 	public void undeploy(Archive archive) throws DeploymentException {
-		if ( originalContextClassLoader != null ) {
-			Thread.currentThread().setContextClassLoader( originalContextClassLoader );
+		ClassLoader contextClassLoader = originalContextClassLoader.get();
+		if ( contextClassLoader != null ) {
+			Thread.currentThread().setContextClassLoader( contextClassLoader );
+			originalContextClassLoader.remove();
 		}
 	}
 
@@ -0,0 +1,75 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.constraints.groups.groupsequence;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.HashMap;
+import java.util.Map;
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.Payload;
+import javax.validation.groups.Default;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * A test constraint which is satisfied by non-null values and counts the invocations of its validator per group the
+ * constraint belongs to. Invocations of constraints without explicit groups are counted for {@link Default}.
+ */
+@Constraint(validatedBy = CountingConstraint.CountingValidator.class)
+@Documented
+@Target({ METHOD, FIELD })
+@Retention(RUNTIME)
+public @interface CountingConstraint {
+	String message() default "counting constraint";
+
+	Class<?>[] groups() default { };
+
+	Class<? extends Payload>[] payload() default { };
+
+	public class CountingValidator implements ConstraintValidator<CountingConstraint, Object> {
+
+		private static final Map<Class<?>, Integer> invocationCounts = new HashMap<Class<?>, Integer>();
+
+		private Class<?>[] groups;
+
+		@Override
+		public void initialize(CountingConstraint constraintAnnotation) {
+			groups = constraintAnnotation.groups().length == 0 ?
+					new Class<?>[] { Default.class } :
+					constraintAnnotation.groups();
+		}
+
+		@Override
+		public boolean isValid(Object value, ConstraintValidatorContext constraintValidatorContext) {
+			synchronized ( invocationCounts ) {
+				for ( Class<?> group : groups ) {
+					invocationCounts.put( group, getInvocationCount( group ) + 1 );
+				}
+			}
+			return value != null;
+		}
+
+		public static int getInvocationCount(Class<?> group) {
+			synchronized ( invocationCounts ) {
+				Integer invocationCount = invocationCounts.get( group );
+				return invocationCount == null ? 0 : invocationCount;
+			}
+		}
+
+		public static void reset() {
+			synchronized ( invocationCounts ) {
+				invocationCounts.clear();
+			}
+		}
+	}
+}
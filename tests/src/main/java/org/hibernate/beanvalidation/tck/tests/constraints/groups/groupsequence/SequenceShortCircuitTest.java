@@ -0,0 +1,200 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.constraints.groups.groupsequence;
+
+import java.util.Set;
+import javax.validation.ConstraintViolation;
+import javax.validation.GroupSequence;
+import javax.validation.Validator;
+import javax.validation.groups.Default;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.jboss.test.audit.annotations.SpecAssertion;
+import org.jboss.test.audit.annotations.SpecAssertions;
+import org.jboss.test.audit.annotations.SpecVersion;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.hibernate.beanvalidation.tck.tests.constraints.groups.groupsequence.CountingConstraint.CountingValidator;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.hibernate.beanvalidation.tck.util.shrinkwrap.WebArchiveBuilder;
+
+import static org.hibernate.beanvalidation.tck.util.TestUtil.assertCorrectNumberOfViolations;
+import static org.hibernate.beanvalidation.tck.util.TestUtil.assertCorrectPropertyPaths;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests that no constraint of the groups following a failing group of a sequence is evaluated, by counting the
+ * invocations of the constraint validators per group.
+ */
+@SpecVersion(spec = "beanvalidation", version = "2.0.0")
+public class SequenceShortCircuitTest extends Arquillian {
+
+	@Deployment
+	public static WebArchive createTestArchive() {
+		return new WebArchiveBuilder()
+				.withTestClassPackage( SequenceShortCircuitTest.class )
+				.build();
+	}
+
+	@BeforeMethod
+	public void resetInvocationCounts() {
+		CountingValidator.reset();
+	}
+
+	@Test
+	@SpecAssertions({
+			@SpecAssertion(section = "4.4.2", id = "b"),
+			@SpecAssertion(section = "4.4.2", id = "d")
+	})
+	public void testAllGroupsOfSequenceAreProcessedIfNoGroupFails() {
+		Validator validator = TestUtil.getValidatorUnderTest();
+		Account account = new Account( "Bob", "DE89370400440532013000", "COBADEFFXXX", "100", "EUR" );
+
+		Set<ConstraintViolation<Account>> violations = validator.validate( account, AllSteps.class );
+		assertCorrectNumberOfViolations( violations, 0 );
+
+		assertInvocationCounts( 1, 2, 1, 1 );
+	}
+
+	@Test
+	@SpecAssertions({
+			@SpecAssertion(section = "4.4.2", id = "b"),
+			@SpecAssertion(section = "4.4.2", id = "d")
+	})
+	public void testGroupsFollowingFailingGroupAreNotProcessed() {
+		Validator validator = TestUtil.getValidatorUnderTest();
+		Account account = new Account( "Bob", null, "COBADEFFXXX", null, null );
+
+		Set<ConstraintViolation<Account>> violations = validator.validate( account, AllSteps.class );
+		assertCorrectNumberOfViolations( violations, 1 );
+		assertCorrectPropertyPaths( violations, "iban" );
+
+		// all the constraints of the failing group are evaluated, but none of the following groups
+		assertInvocationCounts( 1, 2, 0, 0 );
+	}
+
+	@Test
+	@SpecAssertion(section = "4.4.2", id = "d")
+	public void testNoGroupIsProcessedAfterFailingFirstGroup() {
+		Validator validator = TestUtil.getValidatorUnderTest();
+		Account account = new Account( null, null, null, null, null );
+
+		Set<ConstraintViolation<Account>> violations = validator.validate( account, AllSteps.class );
+		assertCorrectNumberOfViolations( violations, 1 );
+		assertCorrectPropertyPaths( violations, "owner" );
+
+		assertInvocationCounts( 1, 0, 0, 0 );
+	}
+
+	@Test
+	@SpecAssertion(section = "4.4.2", id = "d")
+	public void testGroupsAreNotProcessedAfterFailingGroupInReverseSequence() {
+		Validator validator = TestUtil.getValidatorUnderTest();
+		Account account = new Account( null, null, null, null, "EUR" );
+
+		Set<ConstraintViolation<Account>> violations = validator.validate( account, AllStepsReverse.class );
+		assertCorrectNumberOfViolations( violations, 1 );
+		assertCorrectPropertyPaths( violations, "balance" );
+
+		assertInvocationCounts( 0, 0, 1, 1 );
+	}
+
+	@Test
+	@SpecAssertions({
+			@SpecAssertion(section = "4.4.2", id = "d"),
+			@SpecAssertion(section = "4.4.3", id = "a")
+	})
+	public void testGroupsFollowingFailingGroupOfRedefinedDefaultSequenceAreNotProcessed() {
+		Validator validator = TestUtil.getValidatorUnderTest();
+		Transfer transfer = new Transfer( "Bob", null, null );
+
+		Set<ConstraintViolation<Transfer>> violations = validator.validate( transfer );
+		assertCorrectNumberOfViolations( violations, 1 );
+		assertCorrectPropertyPaths( violations, "amount" );
+
+		assertEquals( CountingValidator.getInvocationCount( Step1.class ), 1, "Wrong number of invocations for group Step1" );
+		assertEquals( CountingValidator.getInvocationCount( Step2.class ), 1, "Wrong number of invocations for group Step2" );
+		assertEquals(
+				CountingValidator.getInvocationCount( Default.class ),
+				0,
+				"Constraints of the group Transfer must not be evaluated after group Step2 failed"
+		);
+	}
+
+	private void assertInvocationCounts(int step1, int step2, int step3, int step4) {
+		assertEquals( CountingValidator.getInvocationCount( Step1.class ), step1, "Wrong number of invocations for group Step1" );
+		assertEquals( CountingValidator.getInvocationCount( Step2.class ), step2, "Wrong number of invocations for group Step2" );
+		assertEquals( CountingValidator.getInvocationCount( Step3.class ), step3, "Wrong number of invocations for group Step3" );
+		assertEquals( CountingValidator.getInvocationCount( Step4.class ), step4, "Wrong number of invocations for group Step4" );
+	}
+
+	class Account {
+		@CountingConstraint(groups = Step1.class)
+		private final String owner;
+
+		@CountingConstraint(groups = Step2.class)
+		private final String iban;
+
+		@CountingConstraint(groups = Step2.class)
+		private final String bic;
+
+		@CountingConstraint(groups = Step3.class)
+		private final String balance;
+
+		@CountingConstraint(groups = Step4.class)
+		private final String currency;
+
+		Account(String owner, String iban, String bic, String balance, String currency) {
+			this.owner = owner;
+			this.iban = iban;
+			this.bic = bic;
+			this.balance = balance;
+			this.currency = currency;
+		}
+	}
+
+	@GroupSequence({ Step1.class, Step2.class, Transfer.class })
+	class Transfer {
+		@CountingConstraint(groups = Step1.class)
+		private final String sender;
+
+		@CountingConstraint(groups = Step2.class)
+		private final String amount;
+
+		@CountingConstraint
+		private final String reference;
+
+		Transfer(String sender, String amount, String reference) {
+			this.sender = sender;
+			this.amount = amount;
+			this.reference = reference;
+		}
+	}
+
+	interface Step1 {
+	}
+
+	interface Step2 {
+	}
+
+	interface Step3 {
+	}
+
+	interface Step4 {
+	}
+
+	@GroupSequence({ Step1.class, Step2.class, Step3.class, Step4.class })
+	interface AllSteps {
+	}
+
+	@GroupSequence({ Step4.class, Step3.class, Step2.class, Step1.class })
+	interface AllStepsReverse {
+	}
+}
@@ -0,0 +1,177 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.messageinterpolation;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.validation.ConstraintViolation;
+import javax.validation.MessageInterpolator;
+import javax.validation.Validator;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.jboss.test.audit.annotations.SpecVersion;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.hibernate.beanvalidation.tck.util.OptionalTest;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.hibernate.beanvalidation.tck.util.shrinkwrap.WebArchiveBuilder;
+
+import static org.hibernate.beanvalidation.tck.util.TestUtil.assertCorrectNumberOfViolations;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+
+/**
+ * Checks that the messages of constraint violations are only interpolated once they are requested via
+ * {@link ConstraintViolation#getMessage()}, by counting the invocations of the message interpolator during the
+ * validation and when accessing the violations.
+ * <p>
+ * The specification does not mandate when the messages are interpolated, so a provider interpolating them eagerly
+ * fails these tests but is still compliant.
+ */
+@OptionalTest
+@SpecVersion(spec = "beanvalidation", version = "2.0.0")
+public class LazyMessageInterpolationTest extends Arquillian {
+
+	private CountingMessageInterpolator messageInterpolator;
+
+	private Validator validator;
+
+	@Deployment
+	public static WebArchive createTestArchive() {
+		return new WebArchiveBuilder()
+				.withTestClass( LazyMessageInterpolationTest.class )
+				.build();
+	}
+
+	@BeforeMethod
+	public void setupValidator() {
+		messageInterpolator = new CountingMessageInterpolator();
+		validator = TestUtil.getConfigurationUnderTest()
+				.messageInterpolator( messageInterpolator )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	@Test
+	public void testMessagesAreNotInterpolatedDuringBeanValidation() {
+		Set<ConstraintViolation<Record>> violations = validator.validate( new Record() );
+		assertCorrectNumberOfViolations( violations, 4 );
+		assertNoInterpolation( "validate()", violations.size() );
+
+		for ( ConstraintViolation<Record> violation : violations ) {
+			assertNotNull( violation.getPropertyPath() );
+			assertNotNull( violation.getInvalidValue() );
+			assertNotNull( violation.getMessageTemplate() );
+		}
+		assertNoInterpolation( "accessing the violations except for their messages", violations.size() );
+
+		assertMessagesInterpolatedOnDemand( violations );
+	}
+
+	@Test
+	public void testMessagesAreNotInterpolatedDuringPropertyValidation() {
+		Set<ConstraintViolation<Record>> violations = validator.validateValue( Record.class, "name", "" );
+		assertCorrectNumberOfViolations( violations, 1 );
+		assertNoInterpolation( "validateValue()", violations.size() );
+
+		assertMessagesInterpolatedOnDemand( violations );
+	}
+
+	@Test
+	public void testMessagesAreNotInterpolatedDuringParameterValidation() throws Exception {
+		Method method = RecordService.class.getMethod( "importRecord", String.class, int.class );
+		Object[] parameterValues = new Object[] { null, 0 };
+
+		Set<ConstraintViolation<RecordService>> violations = validator.forExecutables()
+				.validateParameters( new RecordService(), method, parameterValues );
+		assertCorrectNumberOfViolations( violations, 2 );
+		assertNoInterpolation( "validateParameters()", violations.size() );
+
+		assertMessagesInterpolatedOnDemand( violations );
+	}
+
+	private void assertNoInterpolation(String operation, int violationCount) {
+		assertEquals(
+				messageInterpolator.getInvocationCount(),
+				0,
+				"The provider interpolated " + messageInterpolator.getInvocationCount() + " messages of " + violationCount
+						+ " constraint violations during " + operation + ", the messages should only be interpolated when requested"
+		);
+	}
+
+	private <T> void assertMessagesInterpolatedOnDemand(Set<ConstraintViolation<T>> violations) {
+		int expectedInvocationCount = 0;
+		for ( ConstraintViolation<T> violation : violations ) {
+			assertEquals(
+					violation.getMessage(),
+					CountingMessageInterpolator.PREFIX + violation.getMessageTemplate(),
+					"The message should be interpolated by the configured message interpolator"
+			);
+			expectedInvocationCount++;
+			assertEquals(
+					messageInterpolator.getInvocationCount(),
+					expectedInvocationCount,
+					"Each call of getMessage() should interpolate the message of the violation it is invoked on"
+			);
+		}
+	}
+
+	private static class CountingMessageInterpolator implements MessageInterpolator {
+
+		private static final String PREFIX = "interpolated: ";
+
+		private final AtomicInteger invocationCount = new AtomicInteger();
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			invocationCount.incrementAndGet();
+			return PREFIX + messageTemplate;
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			return interpolate( messageTemplate, context );
+		}
+
+		public int getInvocationCount() {
+			return invocationCount.get();
+		}
+	}
+
+	private static class Record {
+
+		@Size(min = 1)
+		private final String name = "";
+
+		@Min(1)
+		private final int quantity = 0;
+
+		@DecimalMin("0.01")
+		private final double price = 0;
+
+		@Size(max = 2)
+		private final String currency = "EURO";
+
+		@NotNull
+		private final String comment = "valid";
+	}
+
+	private static class RecordService {
+
+		public void importRecord(@NotNull String name, @Min(1) int quantity) {
+		}
+	}
+}
@@ -0,0 +1,285 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.metadata;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import javax.validation.Configuration;
+import javax.validation.ParameterNameProvider;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.jboss.test.audit.annotations.SpecVersion;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.hibernate.beanvalidation.tck.tests.xmlconfiguration.User;
+import org.hibernate.beanvalidation.tck.util.OptionalTest;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.hibernate.beanvalidation.tck.util.shrinkwrap.WebArchiveBuilder;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Checks that the provider builds the metadata of a bean and reads the XML constraint mappings once per validator
+ * factory, not on each retrieval of the metadata or validation of the bean.
+ * <p>
+ * The introspection of an annotated bean is observed through a parameter name provider counting the requests for the
+ * parameter names of the methods and constructors of the bean, which the provider retrieves when building the
+ * metadata of the bean. After the first metadata retrieval and validation, repeating them must not request the
+ * parameter names again. If the provider does not request them when building the metadata, the introspection cannot
+ * be observed and the test checking it is skipped.
+ * <p>
+ * The resources are requested through the thread context class loader, which is replaced by a class loader counting
+ * the resource reads. After the first validation and metadata retrieval, repeating them must not read any of the
+ * mapping resources again. If the provider does not read {@code META-INF/validation.xml} through the thread context
+ * class loader, the reads cannot be observed and the tests checking them are skipped.
+ * <p>
+ * The specification does not mandate caching the metadata, so a provider failing these tests is still compliant.
+ */
+@OptionalTest
+@SpecVersion(spec = "beanvalidation", version = "2.0.0")
+public class MetadataCachingTest extends Arquillian {
+
+	private static final String XML_CONFIGURATION_PATH = "org/hibernate/beanvalidation/tck/tests/xmlconfiguration/";
+
+	private static final String VALIDATION_XML = "META-INF/validation.xml";
+
+	private static final String USER_CONSTRAINTS = XML_CONFIGURATION_PATH + "user-constraints.xml";
+
+	private static final String ORDER_CONSTRAINTS = XML_CONFIGURATION_PATH + "order-constraints.xml";
+
+	private static final int REPETITIONS = 100;
+
+	private ClassLoader originalContextClassLoader;
+
+	private CountingClassLoader countingClassLoader;
+
+	private CountingParameterNameProvider countingParameterNameProvider;
+
+	private ValidatorFactory validatorFactory;
+
+	@Deployment
+	public static WebArchive createTestArchive() {
+		return new WebArchiveBuilder()
+				.withTestClassPackage( MetadataCachingTest.class )
+				.withPackage( User.class.getPackage() )
+				.withResource( XML_CONFIGURATION_PATH + "validation-XmlConfigurationTest.xml", VALIDATION_XML, false )
+				.withResource( USER_CONSTRAINTS, false )
+				.withResource( ORDER_CONSTRAINTS, false )
+				.build();
+	}
+
+	@BeforeMethod
+	public void setupValidatorFactory() {
+		originalContextClassLoader = Thread.currentThread().getContextClassLoader();
+		countingClassLoader = new CountingClassLoader( originalContextClassLoader );
+		Thread.currentThread().setContextClassLoader( countingClassLoader );
+
+		Configuration<?> configuration = TestUtil.getConfigurationUnderTest();
+		countingParameterNameProvider = new CountingParameterNameProvider(
+				configuration.getDefaultParameterNameProvider()
+		);
+		validatorFactory = configuration.parameterNameProvider( countingParameterNameProvider )
+				.buildValidatorFactory();
+	}
+
+	@AfterMethod(alwaysRun = true)
+	public void closeValidatorFactory() {
+		Thread.currentThread().setContextClassLoader( originalContextClassLoader );
+		if ( validatorFactory != null ) {
+			validatorFactory.close();
+			validatorFactory = null;
+		}
+	}
+
+	@Test
+	public void testAnnotatedBeanIsIntrospectedOncePerFactory() {
+		Validator validator = validatorFactory.getValidator();
+		Customer customer = new Customer();
+
+		validator.getConstraintsForClass( Customer.class ).getConstrainedProperties();
+		assertEquals( validator.validateProperty( customer, "lastName" ).size(), 1 );
+		int parameterNameRequests = countingParameterNameProvider.getParameterNameRequests( Customer.class );
+		if ( parameterNameRequests == 0 ) {
+			throw new SkipException(
+					"The provider does not retrieve the parameter names of " + Customer.class.getSimpleName() + " when building its metadata, the introspection cannot be observed"
+			);
+		}
+
+		for ( int i = 0; i < REPETITIONS; i++ ) {
+			validator.getConstraintsForClass( Customer.class ).getConstrainedProperties();
+			validator.validateProperty( customer, "lastName" );
+		}
+
+		assertEquals(
+				countingParameterNameProvider.getParameterNameRequests( Customer.class ) - parameterNameRequests,
+				0,
+				"The provider introspected " + Customer.class.getSimpleName() + " again when retrieving its metadata and validating it "
+						+ REPETITIONS + " times"
+		);
+	}
+
+	@Test
+	public void testConstraintMappingsAreReadOncePerFactory() {
+		assumeValidationXmlReadViaContextClassLoader();
+
+		Validator validator = validatorFactory.getValidator();
+		User user = new User();
+
+		validator.getConstraintsForClass( User.class ).getConstrainedProperties();
+		validator.validate( user );
+		int validationXmlReads = countingClassLoader.getResourceReads( VALIDATION_XML );
+		int userConstraintsReads = countingClassLoader.getResourceReads( USER_CONSTRAINTS );
+		int orderConstraintsReads = countingClassLoader.getResourceReads( ORDER_CONSTRAINTS );
+
+		for ( int i = 0; i < REPETITIONS; i++ ) {
+			validator.getConstraintsForClass( User.class ).getConstrainedProperties();
+			validator.validate( user );
+		}
+
+		assertNoFurtherReads( VALIDATION_XML, validationXmlReads );
+		assertNoFurtherReads( USER_CONSTRAINTS, userConstraintsReads );
+		assertNoFurtherReads( ORDER_CONSTRAINTS, orderConstraintsReads );
+	}
+
+	@Test
+	public void testConstraintMappingsAreReadOnceForSeveralValidators() {
+		assumeValidationXmlReadViaContextClassLoader();
+
+		validatorFactory.getValidator().validate( new User() );
+		int userConstraintsReads = countingClassLoader.getResourceReads( USER_CONSTRAINTS );
+
+		for ( int i = 0; i < REPETITIONS; i++ ) {
+			Validator validator = validatorFactory.getValidator();
+			validator.getConstraintsForClass( User.class ).getConstrainedProperties();
+			validator.validate( new User() );
+		}
+
+		assertNoFurtherReads( USER_CONSTRAINTS, userConstraintsReads );
+	}
+
+	private void assumeValidationXmlReadViaContextClassLoader() {
+		if ( countingClassLoader.getResourceReads( VALIDATION_XML ) == 0 ) {
+			throw new SkipException(
+					"The provider does not read " + VALIDATION_XML + " via the thread context class loader, the resource reads cannot be counted"
+			);
+		}
+	}
+
+	private void assertNoFurtherReads(String resource, int initialReads) {
+		assertEquals(
+				countingClassLoader.getResourceReads( resource ) - initialReads,
+				0,
+				"The provider read " + resource + " again when retrieving the metadata of and validating "
+						+ User.class.getSimpleName() + " " + REPETITIONS + " times"
+		);
+	}
+
+	/**
+	 * Parameter name provider delegating to the default one, counting the requests per declaring class.
+	 */
+	private static class CountingParameterNameProvider implements ParameterNameProvider {
+
+		private final ParameterNameProvider delegate;
+
+		private final List<Class<?>> requestingClasses = new ArrayList<Class<?>>();
+
+		private CountingParameterNameProvider(ParameterNameProvider delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public List<String> getParameterNames(Constructor<?> constructor) {
+			addRequest( constructor.getDeclaringClass() );
+			return delegate.getParameterNames( constructor );
+		}
+
+		@Override
+		public List<String> getParameterNames(Method method) {
+			addRequest( method.getDeclaringClass() );
+			return delegate.getParameterNames( method );
+		}
+
+		private void addRequest(Class<?> declaringClass) {
+			synchronized ( requestingClasses ) {
+				requestingClasses.add( declaringClass );
+			}
+		}
+
+		private int getParameterNameRequests(Class<?> declaringClass) {
+			int parameterNameRequests = 0;
+			synchronized ( requestingClasses ) {
+				for ( Class<?> requestingClass : requestingClasses ) {
+					if ( requestingClass == declaringClass ) {
+						parameterNameRequests++;
+					}
+				}
+			}
+			return parameterNameRequests;
+		}
+	}
+
+	/**
+	 * Class loader delegating to its parent, counting the read resources.
+	 */
+	private static class CountingClassLoader extends ClassLoader {
+
+		private final List<String> readResources = new ArrayList<String>();
+
+		private CountingClassLoader(ClassLoader parent) {
+			super( parent );
+		}
+
+		@Override
+		public URL getResource(String name) {
+			addReadResource( name );
+			return getParent().getResource( name );
+		}
+
+		@Override
+		public Enumeration<URL> getResources(String name) throws IOException {
+			addReadResource( name );
+			return getParent().getResources( name );
+		}
+
+		@Override
+		public InputStream getResourceAsStream(String name) {
+			addReadResource( name );
+			return getParent().getResourceAsStream( name );
+		}
+
+		private void addReadResource(String name) {
+			synchronized ( readResources ) {
+				readResources.add( name.startsWith( "/" ) ? name.substring( 1 ) : name );
+			}
+		}
+
+		private int getResourceReads(String name) {
+			int resourceReads = 0;
+			synchronized ( readResources ) {
+				for ( String readResource : readResources ) {
+					if ( readResource.equals( name ) ) {
+						resourceReads++;
+					}
+				}
+			}
+			return resourceReads;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.xmlconfiguration;
+
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.MethodType;
+import javax.validation.metadata.PropertyDescriptor;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.jboss.test.audit.annotations.SpecVersion;
+import org.testng.annotations.Test;
+
+import org.hibernate.beanvalidation.tck.util.OptionalTest;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.hibernate.beanvalidation.tck.util.mapping.ConstraintMappingGenerator;
+import org.hibernate.beanvalidation.tck.util.mapping.ConstraintMappingGenerator.Version;
+import org.hibernate.beanvalidation.tck.util.mapping.GeneratedConstraintMapping;
+import org.hibernate.beanvalidation.tck.util.shrinkwrap.WebArchiveBuilder;
+
+import static org.hibernate.beanvalidation.tck.util.TestUtil.assertCorrectNumberOfViolations;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Bootstraps validator factories with large constraint mappings created by {@link ConstraintMappingGenerator} in each
+ * version of the mapping schema and checks that the provider applies all declared constraints, cascades and group
+ * conversions.
+ */
+@OptionalTest
+@SpecVersion(spec = "beanvalidation", version = "2.0.0")
+public class GeneratedConstraintMappingTest extends Arquillian {
+
+	private static final int BEANS = 100;
+
+	private static final int FIELDS = 3;
+
+	private static final int GETTERS = 2;
+
+	private static final int CONSTRUCTORS = 2;
+
+	private static final int METHODS = 2;
+
+	private static final int GROUP_CONVERSIONS = 2;
+
+	@Deployment
+	public static WebArchive createTestArchive() {
+		return new WebArchiveBuilder()
+				.withTestClass( GeneratedConstraintMappingTest.class )
+				.withPackage( ConstraintMappingGenerator.class.getPackage() )
+				.build();
+	}
+
+	@Test
+	public void testGeneratedMappingInVersion10() throws Exception {
+		GeneratedConstraintMapping mapping = new ConstraintMappingGenerator( Version.V1_0 )
+				.withBeans( BEANS )
+				.withFields( FIELDS )
+				.withGetters( GETTERS )
+				.generate();
+
+		assertMappingApplied( mapping, 0, 0, 0 );
+	}
+
+	@Test
+	public void testGeneratedMappingInVersion11() throws Exception {
+		assertMappingApplied( createMappingWithExecutables( Version.V1_1 ), CONSTRUCTORS, METHODS, GROUP_CONVERSIONS );
+	}
+
+	@Test
+	public void testGeneratedMappingInVersion20() throws Exception {
+		assertMappingApplied( createMappingWithExecutables( Version.V2_0 ), CONSTRUCTORS, METHODS, GROUP_CONVERSIONS );
+	}
+
+	private GeneratedConstraintMapping createMappingWithExecutables(Version version) {
+		return new ConstraintMappingGenerator( version )
+				.withBeans( BEANS )
+				.withFields( FIELDS )
+				.withGetters( GETTERS )
+				.withConstructors( CONSTRUCTORS )
+				.withMethods( METHODS )
+				.withGroupConversions( GROUP_CONVERSIONS )
+				.generate();
+	}
+
+	private void assertMappingApplied(GeneratedConstraintMapping mapping, int constructors, int methods,
+			int groupConversions) throws Exception {
+		Thread thread = Thread.currentThread();
+		ClassLoader originalContextClassLoader = thread.getContextClassLoader();
+		ClassLoader classLoader = mapping.createClassLoader( originalContextClassLoader );
+		thread.setContextClassLoader( classLoader );
+
+		ValidatorFactory validatorFactory = null;
+		try {
+			validatorFactory = TestUtil.getConfigurationUnderTest()
+					.addMapping( mapping.getInputStream() )
+					.buildValidatorFactory();
+			Validator validator = validatorFactory.getValidator();
+
+			assertEquals( mapping.getBeanClassNames().size(), BEANS );
+			for ( String beanClassName : mapping.getBeanClassNames() ) {
+				Class<?> beanClass = classLoader.loadClass( beanClassName );
+				BeanDescriptor descriptor = validator.getConstraintsForClass( beanClass );
+
+				assertEquals(
+						descriptor.getConstrainedProperties().size(),
+						FIELDS + GETTERS + groupConversions,
+						"Wrong number of constrained properties of " + beanClassName
+				);
+				assertEquals(
+						descriptor.getConstrainedConstructors().size(),
+						constructors,
+						"Wrong number of constrained constructors of " + beanClassName
+				);
+				assertEquals(
+						descriptor.getConstrainedMethods( MethodType.NON_GETTER ).size(),
+						methods,
+						"Wrong number of constrained methods of " + beanClassName
+				);
+				for ( int i = 0; i < groupConversions; i++ ) {
+					PropertyDescriptor cascaded = descriptor.getConstraintsForProperty( "cascaded" + i );
+					assertTrue( cascaded.isCascaded(), "cascaded" + i + " of " + beanClassName + " should be cascaded" );
+					assertEquals( cascaded.getGroupConversions().size(), 1 );
+				}
+
+				Object bean = beanClass.getDeclaredConstructor().newInstance();
+				assertCorrectNumberOfViolations( validator.validate( bean ), mapping.getViolationsPerBean() );
+			}
+		}
+		finally {
+			thread.setContextClassLoader( originalContextClassLoader );
+			if ( validatorFactory != null ) {
+				validatorFactory.close();
+			}
+		}
+	}
+}
@@ -7,26 +7,54 @@
 package org.hibernate.beanvalidation.tck.util;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ArchivePath;
+import org.jboss.shrinkwrap.api.Node;
+import org.jboss.shrinkwrap.api.asset.Asset;
 import org.jboss.shrinkwrap.api.exporter.ZipExporter;
 
+import org.hibernate.beanvalidation.tck.util.shrinkwrap.PackageIndex;
+
 /**
  * This class builds the test artifacts and writes them to disk.
  *
  * The artifacts are just created for debugging purposes. They are not part of the TCK artifacts.
+ * <p>
+ * The artifacts are exported in parallel. The content hash of each exported artifact is recorded, so that artifacts
+ * whose content did not change since the previous run are not exported again. Artifacts of test classes which do not
+ * exist anymore are removed.
  *
  * @author Hardy Ferentschik
  */
 public class ArtifactDumper {
+	private static final String CHECKSUMS_FILE = "checksums.properties";
+	private static final String ARTIFACT_EXTENSION = ".war";
+
 	private static Logger logger = Logger.getLogger( ArtifactDumper.class.getName() );
 	private static File artifactDir;
 
@@ -46,38 +74,153 @@ public class ArtifactDumper {
 		}
 
 		artifactDir = new File( targetDir, "artifacts" );
-		if ( artifactDir.exists() ) {
-			for ( File f : artifactDir.listFiles() ) {
-				delete( f );
-			}
-		}
-		else {
-
-			if ( !artifactDir.mkdirs() ) {
-				throw new RuntimeException( "Unable to create artifact dump directory: " + artifactDir.getPath() );
-			}
+		if ( !artifactDir.exists() && !artifactDir.mkdirs() ) {
+			throw new RuntimeException( "Unable to create artifact dump directory: " + artifactDir.getPath() );
 		}
 	}
 
 	public static void main(String[] args) throws Exception {
 		List<Class<?>> testClasses = getClassesForPackage( "org.hibernate.beanvalidation.tck" );
+
+		// the archives are created sequentially as ShrinkWrap's extension loading is not thread-safe
+		Map<String, Archive<?>> archives = new TreeMap<String, Archive<?>>();
 		for ( Class<?> clazz : testClasses ) {
-			processClass( clazz );
+			processClass( clazz, archives );
+		}
+
+		Properties previousChecksums = loadChecksums();
+		final Properties checksums = new Properties();
+		final AtomicInteger exported = new AtomicInteger();
+
+		List<Callable<Void>> exports = new ArrayList<Callable<Void>>();
+		for ( final Map.Entry<String, Archive<?>> entry : archives.entrySet() ) {
+			final String fileName = entry.getKey();
+			final String previousChecksum = previousChecksums.getProperty( fileName );
+			final ZipExporter exporter = entry.getValue().as( ZipExporter.class );
+
+			exports.add(
+					new Callable<Void>() {
+						@Override
+						public Void call() throws Exception {
+							File file = new File( artifactDir, fileName );
+							String checksum = checksum( entry.getValue() );
+							if ( !checksum.equals( previousChecksum ) || !file.exists() ) {
+								exporter.exportTo( file, true );
+								exported.incrementAndGet();
+							}
+							synchronized ( checksums ) {
+								checksums.setProperty( fileName, checksum );
+							}
+							return null;
+						}
+					}
+			);
+		}
+
+		ForkJoinPool pool = new ForkJoinPool();
+		try {
+			for ( Future<Void> export : pool.invokeAll( exports ) ) {
+				export.get();
+			}
 		}
+		catch ( ExecutionException e ) {
+			throw new RuntimeException( "Unable to export test artifact", e.getCause() );
+		}
+		finally {
+			pool.shutdown();
+		}
+
+		deleteStaleArtifacts( archives.keySet() );
+		storeChecksums( checksums );
+
+		logger.info(
+				"Exported " + exported.get() + " test artifacts, " + ( archives.size() - exported.get() ) + " were up to date"
+		);
 	}
 
-	private static void processClass(Class<?> clazz) throws Exception {
+	private static void processClass(Class<?> clazz, Map<String, Archive<?>> archives) throws Exception {
 		for ( Method m : clazz.getMethods() ) {
 			if ( m.isAnnotationPresent( Deployment.class ) ) {
 				Object o = clazz.newInstance();
 				Archive<?> archive = (Archive<?>) m.invoke( o );
 				logger.fine( archive.toString( true ) );
-				archive.as( ZipExporter.class ).exportTo( new File( artifactDir, clazz.getName() + ".war" ), true );
+				archives.put( clazz.getName() + ARTIFACT_EXTENSION, archive );
+			}
+		}
+	}
+
+	private static String checksum(Archive<?> archive) throws Exception {
+		MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+		byte[] buffer = new byte[8192];
+
+		Map<String, Node> content = new TreeMap<String, Node>();
+		for ( Map.Entry<ArchivePath, Node> entry : archive.getContent().entrySet() ) {
+			content.put( entry.getKey().get(), entry.getValue() );
+		}
+
+		for ( Map.Entry<String, Node> entry : content.entrySet() ) {
+			digest.update( entry.getKey().getBytes( Charset.forName( "UTF-8" ) ) );
+			Asset asset = entry.getValue().getAsset();
+			if ( asset != null ) {
+				InputStream in = asset.openStream();
+				try {
+					int read;
+					while ( ( read = in.read( buffer ) ) != -1 ) {
+						digest.update( buffer, 0, read );
+					}
+				}
+				finally {
+					in.close();
+				}
+			}
+		}
+
+		StringBuilder checksum = new StringBuilder();
+		for ( byte b : digest.digest() ) {
+			checksum.append( String.format( "%02x", b ) );
+		}
+		return checksum.toString();
+	}
+
+	private static Properties loadChecksums() throws IOException {
+		Properties checksums = new Properties();
+		File file = new File( artifactDir, CHECKSUMS_FILE );
+		if ( file.exists() ) {
+			InputStream in = new FileInputStream( file );
+			try {
+				checksums.load( in );
+			}
+			finally {
+				in.close();
+			}
+		}
+		return checksums;
+	}
+
+	private static void storeChecksums(Properties checksums) throws IOException {
+		OutputStream out = new FileOutputStream( new File( artifactDir, CHECKSUMS_FILE ) );
+		try {
+			checksums.store( out, "Content hashes of the exported test artifacts" );
+		}
+		finally {
+			out.close();
+		}
+	}
+
+	private static void deleteStaleArtifacts(Set<String> currentArtifacts) {
+		for ( File f : artifactDir.listFiles() ) {
+			if ( !CHECKSUMS_FILE.equals( f.getName() ) && !currentArtifacts.contains( f.getName() ) ) {
+				delete( f );
 			}
 		}
 	}
 
 	private static List<Class<?>> getClassesForPackage(String packageName) throws ClassNotFoundException {
+		Set<String> indexedPackages = PackageIndex.getPackages();
+		if ( !indexedPackages.isEmpty() ) {
+			return getIndexedClasses( packageName, indexedPackages );
+		}
+
 		ArrayList<File> directories = findDirectoriesContainingClassesOfPackage( packageName );
 
 		ArrayList<Class<?>> classes = new ArrayList<Class<?>>();
@@ -90,6 +233,25 @@ public class ArtifactDumper {
 		return classes;
 	}
 
+	private static List<Class<?>> getIndexedClasses(String packageName, Set<String> indexedPackages) {
+		ClassLoader cld = Thread.currentThread().getContextClassLoader();
+		List<Class<?>> classes = new ArrayList<Class<?>>();
+		for ( String indexedPackage : indexedPackages ) {
+			if ( !indexedPackage.equals( packageName ) && !indexedPackage.startsWith( packageName + "." ) ) {
+				continue;
+			}
+			for ( String className : PackageIndex.getClasses( indexedPackage ) ) {
+				try {
+					classes.add( Class.forName( className, false, cld ) );
+				}
+				catch ( ClassNotFoundException e ) {
+					// do nothing. this class hasn't been found by the loader, and we don't care.
+				}
+			}
+		}
+		return classes;
+	}
+
 	private static ArrayList<File> findDirectoriesContainingClassesOfPackage(String packageName) {
 		ArrayList<File> directories = new ArrayList<File>();
 		try {
@@ -145,5 +307,3 @@ public class ArtifactDumper {
 		}
 	}
 }
-
-
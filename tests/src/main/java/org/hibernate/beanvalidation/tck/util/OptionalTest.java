@@ -0,0 +1,25 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks a test class checking a behavior which is not mandated by the specification, e.g. that a provider avoids
+ * unnecessary work. Optional tests are only run if requested, see {@link OptionalTestsMethodSelector}, and are not
+ * required to pass.
+ */
+@Documented
+@Target({ TYPE })
+@Retention(RUNTIME)
+public @interface OptionalTest {
+}
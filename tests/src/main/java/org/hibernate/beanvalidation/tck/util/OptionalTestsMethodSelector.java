@@ -0,0 +1,44 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.util.List;
+
+import org.testng.IMethodSelector;
+import org.testng.IMethodSelectorContext;
+import org.testng.ITestNGMethod;
+
+/**
+ * TestNG test selector which excludes the tests of classes annotated with {@code @OptionalTest}, unless the system
+ * property <i>includeOptionalTests</i> is set to {@code true}.
+ */
+public class OptionalTestsMethodSelector implements IMethodSelector {
+
+	/**
+	 * Name of the system property for including optional tests.
+	 */
+	private static final String INCLUDE_OPTIONAL_TESTS = "includeOptionalTests";
+
+	private static final boolean includeOptionalTests = Boolean.valueOf( System.getProperty( INCLUDE_OPTIONAL_TESTS ) );
+
+	@Override
+	public boolean includeMethod(IMethodSelectorContext context, ITestNGMethod method, boolean isTestMethod) {
+		if ( !includeOptionalTests && method.getConstructorOrMethod().getDeclaringClass().isAnnotationPresent(
+				OptionalTest.class
+		) ) {
+			context.setStopped( true );
+			return false;
+		}
+		else {
+			return true;
+		}
+	}
+
+	@Override
+	public void setTestMethods(List<ITestNGMethod> testMethods) {
+	}
+}
@@ -0,0 +1,189 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.testng.IMethodSelector;
+import org.testng.IMethodSelectorContext;
+import org.testng.ITestNGMethod;
+
+/**
+ * TestNG test selector which splits the TCK into shards, so that it can be executed by several JVMs or build nodes.
+ * <p>
+ * The shards are configured via the system properties <i>shardCount</i> and <i>shardIndex</i> (0 based). Whole test
+ * classes are assigned to shards: by default based on a stable hash of the class name, or, if the system property
+ * <i>shardTimingReportDirectory</i> points to the timing report of a previous run (see {@link TestTimingListener}),
+ * by distributing the classes of that report so that all shards have a similar execution time. Classes not contained
+ * in the report are assigned by their hash. If <i>shardCount</i> is not set, all tests are selected.
+ * <p>
+ * The results of the shards can be combined using {@link ShardReportMerger}.
+ */
+public class ShardMethodSelector implements IMethodSelector {
+
+	/**
+	 * Name of the system property for the number of shards.
+	 */
+	private static final String SHARD_COUNT = "shardCount";
+
+	/**
+	 * Name of the system property for the index of the shard to execute.
+	 */
+	private static final String SHARD_INDEX = "shardIndex";
+
+	/**
+	 * Name of the system property for the directory containing the timing report used to balance the shards.
+	 */
+	private static final String SHARD_TIMING_REPORT_DIRECTORY = "shardTimingReportDirectory";
+
+	private final int shardCount;
+
+	private final int shardIndex;
+
+	private final Map<String, Integer> balancedShards;
+
+	private final ConcurrentMap<String, Integer> shards = new ConcurrentHashMap<String, Integer>();
+
+	public ShardMethodSelector() {
+		String shardCountSetting = System.getProperty( SHARD_COUNT );
+		if ( shardCountSetting == null ) {
+			shardCount = 1;
+			shardIndex = 0;
+			balancedShards = Collections.emptyMap();
+			return;
+		}
+
+		shardCount = Integer.parseInt( shardCountSetting );
+		shardIndex = Integer.parseInt( System.getProperty( SHARD_INDEX, "0" ) );
+		if ( shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount ) {
+			throw new IllegalArgumentException(
+					"Invalid shard configuration: " + SHARD_INDEX + "=" + shardIndex + ", " + SHARD_COUNT + "=" + shardCount
+			);
+		}
+
+		String timingReportDirectory = System.getProperty( SHARD_TIMING_REPORT_DIRECTORY );
+		balancedShards = timingReportDirectory == null ?
+				Collections.<String, Integer>emptyMap() :
+				balance( loadClassTimings( new File( timingReportDirectory ) ), shardCount );
+	}
+
+	@Override
+	public boolean includeMethod(IMethodSelectorContext context, ITestNGMethod method, boolean isTestMethod) {
+		if ( shardCount == 1 || !isTestMethod ) {
+			return true;
+		}
+
+		if ( getShard( method.getRealClass().getName() ) != shardIndex ) {
+			context.setStopped( true );
+			return false;
+		}
+		else {
+			return true;
+		}
+	}
+
+	@Override
+	public void setTestMethods(List<ITestNGMethod> testMethods) {
+	}
+
+	private int getShard(String className) {
+		Integer shard = shards.get( className );
+		if ( shard == null ) {
+			shard = balancedShards.get( className );
+			if ( shard == null ) {
+				shard = ( className.hashCode() & Integer.MAX_VALUE ) % shardCount;
+			}
+			shards.putIfAbsent( className, shard );
+		}
+		return shard;
+	}
+
+	/**
+	 * Assigns the given classes to the shards, longest class first, always to the shard with the lowest total time.
+	 */
+	private static Map<String, Integer> balance(final Map<String, Long> classTimings, int shardCount) {
+		List<String> classNames = new ArrayList<String>( classTimings.keySet() );
+		Collections.sort(
+				classNames, new Comparator<String>() {
+					@Override
+					public int compare(String o1, String o2) {
+						int result = classTimings.get( o2 ).compareTo( classTimings.get( o1 ) );
+						return result != 0 ? result : o1.compareTo( o2 );
+					}
+				}
+		);
+
+		long[] shardTimings = new long[shardCount];
+		Map<String, Integer> balancedShards = new HashMap<String, Integer>();
+		for ( String className : classNames ) {
+			int shard = 0;
+			for ( int i = 1; i < shardCount; i++ ) {
+				if ( shardTimings[i] < shardTimings[shard] ) {
+					shard = i;
+				}
+			}
+			shardTimings[shard] += classTimings.get( className );
+			balancedShards.put( className, shard );
+		}
+
+		return balancedShards;
+	}
+
+	/**
+	 * Sums up the test and deployment times per class from the given timing report.
+	 */
+	private static Map<String, Long> loadClassTimings(File directory) {
+		Map<String, Long> classTimings = new HashMap<String, Long>();
+		addTimings( new File( directory, TestTimingListener.TEST_TIMINGS_FILE ), 3, classTimings );
+		addTimings( new File( directory, TestTimingListener.DEPLOYMENT_TIMINGS_FILE ), 1, classTimings );
+		return classTimings;
+	}
+
+	private static void addTimings(File file, int nanosColumn, Map<String, Long> classTimings) {
+		if ( !file.exists() ) {
+			return;
+		}
+
+		try {
+			BufferedReader reader = new BufferedReader(
+					new InputStreamReader( new FileInputStream( file ), Charset.forName( "UTF-8" ) )
+			);
+			try {
+				// skip the header
+				String line = reader.readLine();
+				while ( ( line = reader.readLine() ) != null ) {
+					String[] columns = line.split( "," );
+					if ( columns.length <= nanosColumn ) {
+						continue;
+					}
+					Long timing = classTimings.get( columns[0] );
+					long nanos = Long.parseLong( columns[nanosColumn] );
+					classTimings.put( columns[0], timing == null ? nanos : timing + nanos );
+				}
+			}
+			finally {
+				reader.close();
+			}
+		}
+		catch ( IOException e ) {
+			throw new RuntimeException( "Unable to read timing report " + file, e );
+		}
+	}
+}
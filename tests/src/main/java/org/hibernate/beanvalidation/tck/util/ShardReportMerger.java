@@ -0,0 +1,207 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Combines the results of a TCK run split into shards via {@link ShardMethodSelector} into one result.
+ * <p>
+ * Each shard directory must contain the {@code testng-results.xml} of the shard. The merged result contains one suite
+ * per suite name, one test per test name and the classes of all the shards. The result counts are summed up, the
+ * duration of a suite or test is the longest duration of the shards. The timing reports written by
+ * {@link TestTimingListener} are concatenated if present, so that the merged directory can be used to balance the
+ * shards of the next run.
+ */
+public class ShardReportMerger {
+
+	private static final String TESTNG_RESULTS_FILE = "testng-results.xml";
+
+	private static final String[] COUNT_ATTRIBUTES = { "skipped", "failed", "ignored", "total", "passed" };
+
+	private static final Logger logger = Logger.getLogger( ShardReportMerger.class.getName() );
+
+	public static void main(String[] args) throws Exception {
+		if ( args.length < 2 ) {
+			throw new IllegalArgumentException(
+					"Usage: ShardReportMerger <output directory> <shard directory> [<shard directory> ...]"
+			);
+		}
+
+		File outputDirectory = new File( args[0] );
+		if ( !outputDirectory.exists() && !outputDirectory.mkdirs() ) {
+			throw new RuntimeException( "Unable to create output directory " + outputDirectory );
+		}
+
+		File[] shardDirectories = new File[args.length - 1];
+		for ( int i = 1; i < args.length; i++ ) {
+			shardDirectories[i - 1] = new File( args[i] );
+		}
+
+		mergeResults( shardDirectories, new File( outputDirectory, TESTNG_RESULTS_FILE ) );
+		mergeCsv( shardDirectories, TestTimingListener.TEST_TIMINGS_FILE, outputDirectory );
+		mergeCsv( shardDirectories, TestTimingListener.DEPLOYMENT_TIMINGS_FILE, outputDirectory );
+
+		logger.info( "Merged the results of " + shardDirectories.length + " shards into " + outputDirectory );
+	}
+
+	private static void mergeResults(File[] shardDirectories, File target) throws Exception {
+		DocumentBuilder documentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+		Document merged = documentBuilder.newDocument();
+		Element mergedRoot = merged.createElement( "testng-results" );
+		merged.appendChild( mergedRoot );
+		mergedRoot.appendChild( merged.createElement( "reporter-output" ) );
+
+		Map<String, Element> suites = new LinkedHashMap<String, Element>();
+		Map<String, Element> tests = new LinkedHashMap<String, Element>();
+
+		for ( File shardDirectory : shardDirectories ) {
+			File results = new File( shardDirectory, TESTNG_RESULTS_FILE );
+			if ( !results.exists() ) {
+				throw new IllegalArgumentException( "No " + TESTNG_RESULTS_FILE + " found in " + shardDirectory );
+			}
+
+			Element root = documentBuilder.parse( results ).getDocumentElement();
+			for ( String attribute : COUNT_ATTRIBUTES ) {
+				if ( root.hasAttribute( attribute ) ) {
+					mergedRoot.setAttribute( attribute, String.valueOf( getLong( mergedRoot, attribute ) + getLong( root, attribute ) ) );
+				}
+			}
+
+			for ( Element suite : getChildElements( root, "suite" ) ) {
+				String suiteName = suite.getAttribute( "name" );
+				Element mergedSuite = suites.get( suiteName );
+				if ( mergedSuite == null ) {
+					mergedSuite = (Element) merged.importNode( suite, false );
+					mergedSuite.appendChild( merged.createElement( "groups" ) );
+					mergedRoot.appendChild( mergedSuite );
+					suites.put( suiteName, mergedSuite );
+				}
+				else {
+					mergeTimes( mergedSuite, suite );
+				}
+
+				for ( Element test : getChildElements( suite, "test" ) ) {
+					String testKey = suiteName + "/" + test.getAttribute( "name" );
+					Element mergedTest = tests.get( testKey );
+					if ( mergedTest == null ) {
+						mergedTest = (Element) merged.importNode( test, false );
+						mergedSuite.appendChild( mergedTest );
+						tests.put( testKey, mergedTest );
+					}
+					else {
+						mergeTimes( mergedTest, test );
+					}
+
+					for ( Element clazz : getChildElements( test, "class" ) ) {
+						mergedTest.appendChild( merged.importNode( clazz, true ) );
+					}
+				}
+			}
+		}
+
+		Transformer transformer = TransformerFactory.newInstance().newTransformer();
+		transformer.setOutputProperty( OutputKeys.INDENT, "yes" );
+		transformer.setOutputProperty( OutputKeys.ENCODING, "UTF-8" );
+		transformer.transform( new DOMSource( merged ), new StreamResult( target ) );
+	}
+
+	private static void mergeTimes(Element merged, Element element) {
+		if ( element.getAttribute( "started-at" ).compareTo( merged.getAttribute( "started-at" ) ) < 0 ) {
+			merged.setAttribute( "started-at", element.getAttribute( "started-at" ) );
+		}
+		if ( element.getAttribute( "finished-at" ).compareTo( merged.getAttribute( "finished-at" ) ) > 0 ) {
+			merged.setAttribute( "finished-at", element.getAttribute( "finished-at" ) );
+		}
+		if ( getLong( element, "duration-ms" ) > getLong( merged, "duration-ms" ) ) {
+			merged.setAttribute( "duration-ms", element.getAttribute( "duration-ms" ) );
+		}
+	}
+
+	private static void mergeCsv(File[] shardDirectories, String fileName, File outputDirectory) throws IOException {
+		PrintWriter writer = null;
+		try {
+			for ( File shardDirectory : shardDirectories ) {
+				File file = new File( shardDirectory, fileName );
+				if ( !file.exists() ) {
+					continue;
+				}
+
+				BufferedReader reader = new BufferedReader(
+						new InputStreamReader( new FileInputStream( file ), Charset.forName( "UTF-8" ) )
+				);
+				try {
+					String header = reader.readLine();
+					if ( writer == null ) {
+						writer = new PrintWriter(
+								new OutputStreamWriter(
+										new FileOutputStream( new File( outputDirectory, fileName ) ),
+										Charset.forName( "UTF-8" )
+								)
+						);
+						writer.println( header );
+					}
+
+					String line;
+					while ( ( line = reader.readLine() ) != null ) {
+						writer.println( line );
+					}
+				}
+				finally {
+					reader.close();
+				}
+			}
+		}
+		finally {
+			if ( writer != null ) {
+				writer.close();
+			}
+		}
+	}
+
+	private static long getLong(Element element, String attribute) {
+		String value = element.getAttribute( attribute );
+		return value.isEmpty() ? 0 : Long.parseLong( value );
+	}
+
+	private static List<Element> getChildElements(Element parent, String name) {
+		List<Element> children = new ArrayList<Element>();
+		NodeList nodes = parent.getChildNodes();
+		for ( int i = 0; i < nodes.getLength(); i++ ) {
+			Node node = nodes.item( i );
+			if ( node.getNodeType() == Node.ELEMENT_NODE && name.equals( node.getNodeName() ) ) {
+				children.add( (Element) node );
+			}
+		}
+		return children;
+	}
+}
@@ -0,0 +1,346 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+/**
+ * Index of the spec assertions covered by the test methods of the TCK, generated at build time.
+ * <p>
+ * {@code @SpecAssertion} is not retained at runtime, so the index is written by {@link #main(String[])} during the
+ * {@code process-classes} phase of the build, by reading the annotations from the compiled test classes. Assertions
+ * are identified as {@code <section>/<id>}, e.g. {@code 6.2/a}.
+ *
+ * @see SpecAssertionMethodSelector
+ */
+public final class SpecAssertionIndex {
+
+	/**
+	 * Location of the index on the class path.
+	 */
+	static final String INDEX_RESOURCE = "META-INF/beanvalidation-tck-spec-assertion-index.properties";
+
+	private static final String TESTS_PACKAGE = "org.hibernate.beanvalidation.tck.tests";
+	private static final String SPEC_ASSERTION_DESCRIPTOR = "Lorg/jboss/test/audit/annotations/SpecAssertion;";
+	private static final String RUNTIME_INVISIBLE_ANNOTATIONS = "RuntimeInvisibleAnnotations";
+	private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+	private static final String CLASS_FILE_EXTENSION = ".class";
+	private static final String SEPARATOR = ",";
+
+	private static final Logger logger = Logger.getLogger( SpecAssertionIndex.class.getName() );
+
+	private SpecAssertionIndex() {
+	}
+
+	/**
+	 * Returns the spec assertions covered by the given test method.
+	 *
+	 * @param className the fully qualified name of the test class
+	 * @param methodName the name of the test method
+	 *
+	 * @return the assertions of the test method as {@code <section>/<id>}, an empty list if the method is not indexed
+	 */
+	public static List<String> getSpecAssertions(String className, String methodName) {
+		String assertions = IndexHolder.INDEX.getProperty( className + "#" + methodName );
+		if ( assertions == null ) {
+			return Collections.emptyList();
+		}
+		return Arrays.asList( assertions.split( SEPARATOR ) );
+	}
+
+	/**
+	 * @return whether the index is present on the class path
+	 */
+	public static boolean isAvailable() {
+		return !IndexHolder.INDEX.isEmpty();
+	}
+
+	/**
+	 * Writes the index of the spec assertions of the test classes found in the given class output directory.
+	 *
+	 * @param args the class output directory of the build
+	 */
+	public static void main(String[] args) throws Exception {
+		if ( args.length != 1 ) {
+			throw new IllegalArgumentException( "Usage: SpecAssertionIndex <class output directory>" );
+		}
+
+		File outputDirectory = new File( args[0] );
+		SortedMap<String, List<String>> index = new TreeMap<String, List<String>>();
+		addClasses( TESTS_PACKAGE, new File( outputDirectory, TESTS_PACKAGE.replace( '.', File.separatorChar ) ), index );
+
+		File indexFile = new File( outputDirectory, INDEX_RESOURCE );
+		if ( !indexFile.getParentFile().exists() && !indexFile.getParentFile().mkdirs() ) {
+			throw new RuntimeException( "Unable to create directory for spec assertion index: " + indexFile.getParent() );
+		}
+
+		Writer writer = new OutputStreamWriter( new FileOutputStream( indexFile ), Charset.forName( "ISO-8859-1" ) );
+		try {
+			for ( Map.Entry<String, List<String>> entry : index.entrySet() ) {
+				writer.write( entry.getKey() );
+				writer.write( '=' );
+				for ( int i = 0; i < entry.getValue().size(); i++ ) {
+					if ( i > 0 ) {
+						writer.write( SEPARATOR );
+					}
+					writer.write( entry.getValue().get( i ) );
+				}
+				writer.write( '\n' );
+			}
+		}
+		finally {
+			writer.close();
+		}
+
+		logger.info( "Indexed the spec assertions of " + index.size() + " test methods in " + indexFile );
+	}
+
+	private static void addClasses(String packageName, File directory, Map<String, List<String>> index) throws IOException {
+		File[] files = directory.listFiles();
+		if ( files == null ) {
+			return;
+		}
+
+		for ( File file : files ) {
+			if ( file.isDirectory() ) {
+				addClasses( packageName + "." + file.getName(), file, index );
+			}
+			else if ( file.getName().endsWith( CLASS_FILE_EXTENSION ) ) {
+				String className = packageName + "." + file.getName()
+						.substring( 0, file.getName().length() - CLASS_FILE_EXTENSION.length() );
+				InputStream in = new BufferedInputStream( new FileInputStream( file ) );
+				try {
+					for ( Map.Entry<String, List<String>> method : readSpecAssertions( new DataInputStream( in ) ).entrySet() ) {
+						index.put( className + "#" + method.getKey(), method.getValue() );
+					}
+				}
+				finally {
+					in.close();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads the spec assertions of the methods of the given class file.
+	 *
+	 * @return the spec assertions by method name, only containing methods with at least one assertion
+	 */
+	private static Map<String, List<String>> readSpecAssertions(DataInputStream in) throws IOException {
+		// magic, minor and major version
+		skip( in, 8 );
+
+		String[] utf8Constants = readUtf8Constants( in );
+
+		// access flags, this class, super class
+		skip( in, 6 );
+		skip( in, 2 * in.readUnsignedShort() );
+
+		// fields
+		int fieldCount = in.readUnsignedShort();
+		for ( int i = 0; i < fieldCount; i++ ) {
+			skip( in, 6 );
+			skipAttributes( in );
+		}
+
+		Map<String, List<String>> assertionsByMethod = new HashMap<String, List<String>>();
+		int methodCount = in.readUnsignedShort();
+		for ( int i = 0; i < methodCount; i++ ) {
+			skip( in, 2 );
+			String methodName = utf8Constants[in.readUnsignedShort()];
+			skip( in, 2 );
+
+			List<String> assertions = new ArrayList<String>();
+			int attributeCount = in.readUnsignedShort();
+			for ( int j = 0; j < attributeCount; j++ ) {
+				String attributeName = utf8Constants[in.readUnsignedShort()];
+				int length = in.readInt();
+				if ( RUNTIME_INVISIBLE_ANNOTATIONS.equals( attributeName ) || RUNTIME_VISIBLE_ANNOTATIONS.equals( attributeName ) ) {
+					int annotationCount = in.readUnsignedShort();
+					for ( int k = 0; k < annotationCount; k++ ) {
+						readAnnotation( in, utf8Constants, assertions );
+					}
+				}
+				else {
+					skip( in, length );
+				}
+			}
+
+			if ( !assertions.isEmpty() ) {
+				assertionsByMethod.put( methodName, assertions );
+			}
+		}
+
+		return assertionsByMethod;
+	}
+
+	/**
+	 * Reads the constant pool, retaining the UTF-8 constants by index.
+	 */
+	private static String[] readUtf8Constants(DataInputStream in) throws IOException {
+		int constantCount = in.readUnsignedShort();
+		String[] utf8Constants = new String[constantCount];
+		for ( int i = 1; i < constantCount; i++ ) {
+			int tag = in.readUnsignedByte();
+			switch ( tag ) {
+				case 1: // Utf8
+					utf8Constants[i] = in.readUTF();
+					break;
+				case 7: // Class
+				case 8: // String
+				case 16: // MethodType
+				case 19: // Module
+				case 20: // Package
+					skip( in, 2 );
+					break;
+				case 15: // MethodHandle
+					skip( in, 3 );
+					break;
+				case 3: // Integer
+				case 4: // Float
+				case 9: // Fieldref
+				case 10: // Methodref
+				case 11: // InterfaceMethodref
+				case 12: // NameAndType
+				case 17: // Dynamic
+				case 18: // InvokeDynamic
+					skip( in, 4 );
+					break;
+				case 5: // Long
+				case 6: // Double
+					skip( in, 8 );
+					// these constants take two entries
+					i++;
+					break;
+				default:
+					throw new IOException( "Unexpected constant pool tag " + tag );
+			}
+		}
+		return utf8Constants;
+	}
+
+	/**
+	 * Reads an annotation, adding it to the given assertions if it is a spec assertion. Nested annotations (as in
+	 * {@code @SpecAssertions}) are read recursively.
+	 */
+	private static void readAnnotation(DataInputStream in, String[] utf8Constants, List<String> assertions) throws IOException {
+		String type = utf8Constants[in.readUnsignedShort()];
+		Map<String, String> values = new HashMap<String, String>();
+
+		int pairCount = in.readUnsignedShort();
+		for ( int i = 0; i < pairCount; i++ ) {
+			String name = utf8Constants[in.readUnsignedShort()];
+			readElementValue( in, utf8Constants, name, values, assertions );
+		}
+
+		if ( SPEC_ASSERTION_DESCRIPTOR.equals( type ) ) {
+			assertions.add( values.get( "section" ) + "/" + values.get( "id" ) );
+		}
+	}
+
+	private static void readElementValue(DataInputStream in, String[] utf8Constants, String name, Map<String, String> values,
+			List<String> assertions) throws IOException {
+		int tag = in.readUnsignedByte();
+		switch ( tag ) {
+			case 's':
+				values.put( name, utf8Constants[in.readUnsignedShort()] );
+				break;
+			case 'B':
+			case 'C':
+			case 'D':
+			case 'F':
+			case 'I':
+			case 'J':
+			case 'S':
+			case 'Z':
+			case 'c':
+				skip( in, 2 );
+				break;
+			case 'e':
+				skip( in, 4 );
+				break;
+			case '@':
+				readAnnotation( in, utf8Constants, assertions );
+				break;
+			case '[':
+				int valueCount = in.readUnsignedShort();
+				for ( int i = 0; i < valueCount; i++ ) {
+					readElementValue( in, utf8Constants, name, values, assertions );
+				}
+				break;
+			default:
+				throw new IOException( "Unexpected element value tag " + (char) tag );
+		}
+	}
+
+	private static void skipAttributes(DataInputStream in) throws IOException {
+		int attributeCount = in.readUnsignedShort();
+		for ( int i = 0; i < attributeCount; i++ ) {
+			skip( in, 2 );
+			skip( in, in.readInt() );
+		}
+	}
+
+	private static void skip(DataInputStream in, int bytes) throws IOException {
+		int remaining = bytes;
+		while ( remaining > 0 ) {
+			int skipped = in.skipBytes( remaining );
+			if ( skipped <= 0 ) {
+				throw new IOException( "Unexpected end of class file" );
+			}
+			remaining -= skipped;
+		}
+	}
+
+	private static Properties loadIndex() {
+		Properties index = new Properties();
+
+		URL url = SpecAssertionIndex.class.getClassLoader().getResource( INDEX_RESOURCE );
+		if ( url == null ) {
+			return index;
+		}
+
+		try {
+			InputStream in = url.openStream();
+			try {
+				index.load( in );
+			}
+			finally {
+				in.close();
+			}
+		}
+		catch ( IOException e ) {
+			throw new RuntimeException( "Unable to read spec assertion index " + url, e );
+		}
+
+		return index;
+	}
+
+	private static class IndexHolder {
+		private static final Properties INDEX = loadIndex();
+	}
+}
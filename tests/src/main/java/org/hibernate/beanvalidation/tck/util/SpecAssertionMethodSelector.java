@@ -0,0 +1,112 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.testng.IMethodSelector;
+import org.testng.IMethodSelectorContext;
+import org.testng.ITestNGMethod;
+
+/**
+ * TestNG test selector which only runs the tests covering given sections or assertions of the specification.
+ * <p>
+ * The sections are given as comma separated list via the system property <i>specSections</i>. A section also selects
+ * its sub-sections, i.e. {@code 6} selects the tests for the sections {@code 6}, {@code 6.1}, {@code 6.1.2} etc. Single
+ * assertions are given as comma separated list of {@code <section>/<id>} (e.g. {@code 5.5.6/a}) via the system
+ * property <i>specAssertions</i>. A test is run if one of its {@code @SpecAssertion}s matches. If neither property is
+ * set, all tests are selected.
+ * <p>
+ * The assertions of the tests are retrieved from the {@link SpecAssertionIndex} generated at build time.
+ */
+public class SpecAssertionMethodSelector implements IMethodSelector {
+
+	/**
+	 * Name of the system property for the spec sections to test.
+	 */
+	private static final String SPEC_SECTIONS = "specSections";
+
+	/**
+	 * Name of the system property for the spec assertions to test.
+	 */
+	private static final String SPEC_ASSERTIONS = "specAssertions";
+
+	private final List<String> sections;
+
+	private final Set<String> assertions;
+
+	public SpecAssertionMethodSelector() {
+		sections = split( System.getProperty( SPEC_SECTIONS ) );
+		assertions = new HashSet<String>( split( System.getProperty( SPEC_ASSERTIONS ) ) );
+
+		if ( isActive() && !SpecAssertionIndex.isAvailable() ) {
+			throw new IllegalStateException(
+					"Tests cannot be selected by spec section or assertion as the spec assertion index is missing"
+			);
+		}
+	}
+
+	@Override
+	public boolean includeMethod(IMethodSelectorContext context, ITestNGMethod method, boolean isTestMethod) {
+		if ( !isActive() || !isTestMethod ) {
+			return true;
+		}
+
+		List<String> methodAssertions = SpecAssertionIndex.getSpecAssertions(
+				method.getConstructorOrMethod().getDeclaringClass().getName(),
+				method.getMethodName()
+		);
+		for ( String methodAssertion : methodAssertions ) {
+			if ( matches( methodAssertion ) ) {
+				return true;
+			}
+		}
+
+		context.setStopped( true );
+		return false;
+	}
+
+	@Override
+	public void setTestMethods(List<ITestNGMethod> testMethods) {
+	}
+
+	private boolean isActive() {
+		return !sections.isEmpty() || !assertions.isEmpty();
+	}
+
+	private boolean matches(String assertion) {
+		if ( assertions.contains( assertion ) ) {
+			return true;
+		}
+
+		String section = assertion.substring( 0, assertion.lastIndexOf( '/' ) );
+		for ( String selectedSection : sections ) {
+			if ( section.equals( selectedSection ) || section.startsWith( selectedSection + "." ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static List<String> split(String setting) {
+		if ( setting == null || setting.trim().isEmpty() ) {
+			return Collections.emptyList();
+		}
+
+		List<String> values = new ArrayList<String>();
+		for ( String value : setting.split( "," ) ) {
+			if ( !value.trim().isEmpty() ) {
+				values.add( value.trim() );
+			}
+		}
+		return values;
+	}
+}
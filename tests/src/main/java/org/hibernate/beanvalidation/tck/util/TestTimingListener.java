@@ -0,0 +1,296 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import org.hibernate.beanvalidation.tck.util.shrinkwrap.ArchiveCache;
+
+/**
+ * TestNG listener recording the execution time of the TCK.
+ * <p>
+ * For each test method, the wall time and the bytes allocated by the executing thread are recorded, as well as the
+ * time spent in {@link TestUtil#getValidatorFactoryUnderTest()} by the test method and the configuration methods
+ * executed before it. For each test class, the time taken by the Arquillian class set up (i.e. the deployment of the
+ * test archive) is recorded.
+ * <p>
+ * When the suite is finished, the timings are written as {@code tck-timings.json}, {@code tck-test-timings.csv} and
+ * {@code tck-deployment-timings.csv} to the directory given by the system property <i>timingReportDirectory</i>,
+ * {@code target} by default. Bootstrap times can only be measured if the tests are executed in the current JVM.
+ * Allocated bytes are reported as -1 if the JVM does not support measuring them.
+ */
+public class TestTimingListener implements IInvokedMethodListener, ISuiteListener {
+
+	/**
+	 * Name of the system property for the directory the timing reports are written to.
+	 */
+	private static final String TIMING_REPORT_DIRECTORY = "timingReportDirectory";
+
+	private static final String DEFAULT_TIMING_REPORT_DIRECTORY = "target";
+
+	/**
+	 * Name of the Arquillian configuration method deploying the test archive.
+	 */
+	private static final String ARQUILLIAN_BEFORE_CLASS = "arquillianBeforeClass";
+
+	static final String TEST_TIMINGS_FILE = "tck-test-timings.csv";
+
+	static final String DEPLOYMENT_TIMINGS_FILE = "tck-deployment-timings.csv";
+
+	private static final String JSON_TIMINGS_FILE = "tck-timings.json";
+
+	private static final Logger logger = Logger.getLogger( TestTimingListener.class.getName() );
+
+	private final com.sun.management.ThreadMXBean allocationMXBean = getAllocationMXBean();
+
+	private final ThreadLocal<long[]> invocationStart = new ThreadLocal<long[]>();
+
+	private final ConcurrentLinkedQueue<TestTiming> testTimings = new ConcurrentLinkedQueue<TestTiming>();
+
+	private final ConcurrentLinkedQueue<DeploymentTiming> deploymentTimings = new ConcurrentLinkedQueue<DeploymentTiming>();
+
+	@Override
+	public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+		invocationStart.set( new long[] { System.nanoTime(), getAllocatedBytes() } );
+	}
+
+	@Override
+	public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+		long[] start = invocationStart.get();
+		if ( start == null ) {
+			return;
+		}
+		invocationStart.remove();
+
+		long wallNanos = System.nanoTime() - start[0];
+		long allocatedBytes = start[1] < 0 ? -1 : getAllocatedBytes() - start[1];
+		Method javaMethod = method.getTestMethod().getConstructorOrMethod().getMethod();
+		String className = testResult.getTestClass().getRealClass().getName();
+
+		if ( method.isTestMethod() ) {
+			testTimings.add(
+					new TestTiming(
+							className,
+							javaMethod.getName(),
+							getStatus( testResult ),
+							wallNanos,
+							allocatedBytes,
+							TestUtil.getAndResetValidatorFactoryBootstrapNanos()
+					)
+			);
+		}
+		else if ( method.isConfigurationMethod() && ARQUILLIAN_BEFORE_CLASS.equals( javaMethod.getName() ) ) {
+			deploymentTimings.add( new DeploymentTiming( className, wallNanos ) );
+		}
+	}
+
+	@Override
+	public void onStart(ISuite suite) {
+	}
+
+	@Override
+	public void onFinish(ISuite suite) {
+		File directory = new File( System.getProperty( TIMING_REPORT_DIRECTORY, DEFAULT_TIMING_REPORT_DIRECTORY ) );
+		if ( !directory.exists() && !directory.mkdirs() ) {
+			logger.warning( "Unable to create timing report directory " + directory );
+			return;
+		}
+
+		List<TestTiming> tests = new ArrayList<TestTiming>( testTimings );
+		Collections.sort( tests, TestTiming.BY_NAME );
+		List<DeploymentTiming> deployments = new ArrayList<DeploymentTiming>( deploymentTimings );
+		Collections.sort( deployments, DeploymentTiming.BY_NAME );
+
+		try {
+			writeTestTimings( new File( directory, TEST_TIMINGS_FILE ), tests );
+			writeDeploymentTimings( new File( directory, DEPLOYMENT_TIMINGS_FILE ), deployments );
+			writeJson( new File( directory, JSON_TIMINGS_FILE ), suite.getName(), tests, deployments );
+		}
+		catch ( IOException e ) {
+			logger.warning( "Unable to write timing report: " + e.getMessage() );
+		}
+	}
+
+	private long getAllocatedBytes() {
+		if ( allocationMXBean == null ) {
+			return -1;
+		}
+		return allocationMXBean.getThreadAllocatedBytes( Thread.currentThread().getId() );
+	}
+
+	private static com.sun.management.ThreadMXBean getAllocationMXBean() {
+		try {
+			ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+			if ( threadMXBean instanceof com.sun.management.ThreadMXBean ) {
+				com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+				if ( allocationMXBean.isThreadAllocatedMemorySupported() && allocationMXBean.isThreadAllocatedMemoryEnabled() ) {
+					return allocationMXBean;
+				}
+			}
+		}
+		catch ( LinkageError e ) {
+			// the JVM does not provide the com.sun.management API
+		}
+		return null;
+	}
+
+	private static String getStatus(ITestResult testResult) {
+		switch ( testResult.getStatus() ) {
+			case ITestResult.SUCCESS:
+				return "SUCCESS";
+			case ITestResult.FAILURE:
+				return "FAILURE";
+			case ITestResult.SKIP:
+				return "SKIP";
+			default:
+				return "UNKNOWN";
+		}
+	}
+
+	private static void writeTestTimings(File file, List<TestTiming> tests) throws IOException {
+		PrintWriter writer = newWriter( file );
+		try {
+			writer.println( "class,method,status,wallNanos,allocatedBytes,bootstrapNanos" );
+			for ( TestTiming test : tests ) {
+				writer.println(
+						test.className + "," + test.methodName + "," + test.status + "," + test.wallNanos + "," + test.allocatedBytes + "," + test.bootstrapNanos
+				);
+			}
+		}
+		finally {
+			writer.close();
+		}
+	}
+
+	private static void writeDeploymentTimings(File file, List<DeploymentTiming> deployments) throws IOException {
+		PrintWriter writer = newWriter( file );
+		try {
+			writer.println( "class,deploymentNanos" );
+			for ( DeploymentTiming deployment : deployments ) {
+				writer.println( deployment.className + "," + deployment.deploymentNanos );
+			}
+		}
+		finally {
+			writer.close();
+		}
+	}
+
+	private static void writeJson(File file, String suiteName, List<TestTiming> tests, List<DeploymentTiming> deployments)
+			throws IOException {
+		PrintWriter writer = newWriter( file );
+		try {
+			writer.println( "{" );
+			writer.println( "  \"suite\": " + quote( suiteName ) + "," );
+			writer.println(
+					"  \"archiveCache\": { \"hits\": " + ArchiveCache.getHitCount() + ", \"misses\": "
+							+ ArchiveCache.getMissCount() + ", \"savedMillis\": "
+							+ ArchiveCache.getSavedTime( TimeUnit.MILLISECONDS ) + " },"
+			);
+
+			writer.println( "  \"deployments\": [" );
+			for ( int i = 0; i < deployments.size(); i++ ) {
+				DeploymentTiming deployment = deployments.get( i );
+				writer.println(
+						"    { \"class\": " + quote( deployment.className ) + ", \"deploymentNanos\": "
+								+ deployment.deploymentNanos + " }" + ( i < deployments.size() - 1 ? "," : "" )
+				);
+			}
+			writer.println( "  ]," );
+
+			writer.println( "  \"tests\": [" );
+			for ( int i = 0; i < tests.size(); i++ ) {
+				TestTiming test = tests.get( i );
+				writer.println(
+						"    { \"class\": " + quote( test.className ) + ", \"method\": " + quote( test.methodName )
+								+ ", \"status\": " + quote( test.status )
+								+ ", \"wallNanos\": " + test.wallNanos + ", \"allocatedBytes\": " + test.allocatedBytes
+								+ ", \"bootstrapNanos\": " + test.bootstrapNanos + " }" + ( i < tests.size() - 1 ? "," : "" )
+				);
+			}
+			writer.println( "  ]" );
+			writer.println( "}" );
+		}
+		finally {
+			writer.close();
+		}
+	}
+
+	private static PrintWriter newWriter(File file) throws IOException {
+		return new PrintWriter( new OutputStreamWriter( new FileOutputStream( file ), Charset.forName( "UTF-8" ) ) );
+	}
+
+	private static String quote(String value) {
+		return "\"" + value.replace( "\\", "\\\\" ).replace( "\"", "\\\"" ) + "\"";
+	}
+
+	private static class TestTiming {
+
+		private static final Comparator<TestTiming> BY_NAME = new Comparator<TestTiming>() {
+			@Override
+			public int compare(TestTiming o1, TestTiming o2) {
+				int result = o1.className.compareTo( o2.className );
+				return result != 0 ? result : o1.methodName.compareTo( o2.methodName );
+			}
+		};
+
+		private final String className;
+		private final String methodName;
+		private final String status;
+		private final long wallNanos;
+		private final long allocatedBytes;
+		private final long bootstrapNanos;
+
+		private TestTiming(String className, String methodName, String status, long wallNanos, long allocatedBytes,
+				long bootstrapNanos) {
+			this.className = className;
+			this.methodName = methodName;
+			this.status = status;
+			this.wallNanos = wallNanos;
+			this.allocatedBytes = allocatedBytes;
+			this.bootstrapNanos = bootstrapNanos;
+		}
+	}
+
+	private static class DeploymentTiming {
+
+		private static final Comparator<DeploymentTiming> BY_NAME = new Comparator<DeploymentTiming>() {
+			@Override
+			public int compare(DeploymentTiming o1, DeploymentTiming o2) {
+				return o1.className.compareTo( o2.className );
+			}
+		};
+
+		private final String className;
+		private final long deploymentNanos;
+
+		private DeploymentTiming(String className, long deploymentNanos) {
+			this.className = className;
+			this.deploymentNanos = deploymentNanos;
+		}
+	}
+}
@@ -14,7 +14,9 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.validation.Configuration;
@@ -62,35 +64,105 @@ public final class TestUtil {
 
 	private static final String VALIDATION_PROVIDER_TEST_CLASS = "validation.provider";
 
-	private static ValidationProvider<?> validationProviderUnderTest;
+	/**
+	 * Name of the system property for enabling the caching of the validator factory used by
+	 * {@link #getValidatorUnderTest()}.
+	 */
+	private static final String CACHE_VALIDATOR_FACTORY = "cacheValidatorFactory";
+
+	private static final boolean cacheValidatorFactory = Boolean.getBoolean( CACHE_VALIDATOR_FACTORY );
+
+	/**
+	 * The cached validator factories, keyed by the context class loader of the deployment they have been created for.
+	 */
+	private static final Map<ClassLoader, ValidatorFactory> cachedValidatorFactories = new WeakHashMap<ClassLoader, ValidatorFactory>();
+
+	/**
+	 * The time spent in {@link #getValidatorFactoryUnderTest()} by the current thread, see {@link TestTimingListener}.
+	 */
+	private static final ThreadLocal<long[]> validatorFactoryBootstrapNanos = new ThreadLocal<long[]>() {
+		@Override
+		protected long[] initialValue() {
+			return new long[1];
+		}
+	};
 
 	private TestUtil() {
 	}
 
+	/**
+	 * Returns a validator of the provider under test.
+	 * <p>
+	 * By default, the validator is retrieved from a new validator factory for each invocation. If the system property
+	 * <i>cacheValidatorFactory</i> is set to {@code true}, one factory is cached per thread context class loader (i.e.
+	 * per deployment) and closed via {@link #closeCachedValidatorFactory()} when the deployment is undeployed.
+	 * {@link #getValidatorFactoryUnderTest()} always returns a new factory.
+	 *
+	 * @return a validator of the provider under test
+	 */
 	public static Validator getValidatorUnderTest() {
+		if ( cacheValidatorFactory ) {
+			return getCachedValidatorFactoryUnderTest().getValidator();
+		}
 		return getValidatorFactoryUnderTest().getValidator();
 	}
 
-	public static ValidationProvider<?> getValidationProviderUnderTest() {
-		if ( validationProviderUnderTest == null ) {
-			instantiateValidationProviderUnderTest();
+	/**
+	 * Closes the validator factory cached for the current thread context class loader, if any.
+	 */
+	public static void closeCachedValidatorFactory() {
+		ValidatorFactory validatorFactory;
+		synchronized ( cachedValidatorFactories ) {
+			validatorFactory = cachedValidatorFactories.remove( Thread.currentThread().getContextClassLoader() );
+		}
+
+		if ( validatorFactory != null ) {
+			validatorFactory.close();
 		}
-		return validationProviderUnderTest;
 	}
 
-	public static ValidatorFactory getValidatorFactoryUnderTest() {
-		Configuration<?> config = getConfigurationUnderTest();
-		return config.buildValidatorFactory();
+	private static ValidatorFactory getCachedValidatorFactoryUnderTest() {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		synchronized ( cachedValidatorFactories ) {
+			ValidatorFactory validatorFactory = cachedValidatorFactories.get( contextClassLoader );
+			if ( validatorFactory == null ) {
+				validatorFactory = getValidatorFactoryUnderTest();
+				cachedValidatorFactories.put( contextClassLoader, validatorFactory );
+			}
+			return validatorFactory;
+		}
 	}
 
-	public static Configuration<?> getConfigurationUnderTest() {
-		if ( validationProviderUnderTest == null ) {
-			instantiateValidationProviderUnderTest();
+	public static ValidationProvider<?> getValidationProviderUnderTest() {
+		return ProviderHolder.PROVIDER;
+	}
+
+	public static ValidatorFactory getValidatorFactoryUnderTest() {
+		long start = System.nanoTime();
+		try {
+			Configuration<?> config = getConfigurationUnderTest();
+			return config.buildValidatorFactory();
+		}
+		finally {
+			validatorFactoryBootstrapNanos.get()[0] += System.nanoTime() - start;
 		}
+	}
 
-		@SuppressWarnings("unchecked")
-		ProviderSpecificBootstrap<?> bootstrap = Validation.byProvider( validationProviderUnderTest.getClass() );
-		return bootstrap.configure();
+	/**
+	 * Returns the time the current thread spent in {@link #getValidatorFactoryUnderTest()} since the last invocation
+	 * of this method.
+	 *
+	 * @return the bootstrap time in nanoseconds
+	 */
+	static long getAndResetValidatorFactoryBootstrapNanos() {
+		long[] nanos = validatorFactoryBootstrapNanos.get();
+		long bootstrapNanos = nanos[0];
+		nanos[0] = 0;
+		return bootstrapNanos;
+	}
+
+	public static Configuration<?> getConfigurationUnderTest() {
+		return ProviderHolder.BOOTSTRAP.configure();
 	}
 
 	public static MessageInterpolator getDefaultMessageInterpolator() {
@@ -385,7 +457,7 @@ public final class TestUtil {
 		return inputStream;
 	}
 
-	private static <U extends ValidationProvider<?>> void instantiateValidationProviderUnderTest() {
+	private static ValidationProvider<?> instantiateValidationProviderUnderTest() {
 		String validatorProviderClassName = System.getProperty( VALIDATION_PROVIDER_TEST_CLASS );
 		if ( validatorProviderClassName == null ) {
 			throw new RuntimeException(
@@ -393,25 +465,35 @@ public final class TestUtil {
 			);
 		}
 
-		Class<U> providerClass;
+		Class<? extends ValidationProvider<?>> providerClass;
 		try {
 			@SuppressWarnings("unchecked")
-			Class<U> tmpClazz = (Class<U>) TestUtil.class.getClassLoader()
+			Class<? extends ValidationProvider<?>> tmpClazz = (Class<? extends ValidationProvider<?>>) TestUtil.class.getClassLoader()
 					.loadClass( validatorProviderClassName );
 			providerClass = tmpClazz;
 		}
 		catch ( ClassNotFoundException e ) {
-			throw new RuntimeException( "Unable to load " + validatorProviderClassName );
+			throw new RuntimeException( "Unable to load " + validatorProviderClassName, e );
 		}
 
 		try {
-			validationProviderUnderTest = providerClass.newInstance();
+			return providerClass.getDeclaredConstructor().newInstance();
 		}
 		catch ( Exception e ) {
-			throw new RuntimeException( "Unable to instantiate " + validatorProviderClassName );
+			throw new RuntimeException( "Unable to instantiate " + validatorProviderClassName, e );
 		}
 	}
 
+	/**
+	 * Lazily resolves the provider under test and its bootstrap exactly once, relying on the thread-safe class
+	 * initialization of the JVM. This allows the tests to be executed in parallel.
+	 */
+	private static class ProviderHolder {
+		private static final ValidationProvider<?> PROVIDER = instantiateValidationProviderUnderTest();
+		@SuppressWarnings("unchecked")
+		private static final ProviderSpecificBootstrap<?> BOOTSTRAP = Validation.byProvider( PROVIDER.getClass() );
+	}
+
 	private static List<PathNodeKinds> getPathDescriptorKinds(Set<? extends ConstraintViolation<?>> violations) {
 		List<PathNodeKinds> descriptorKindsOfAllPaths = new ArrayList<PathNodeKinds>();
 
@@ -0,0 +1,36 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import org.jboss.arquillian.container.spi.event.container.BeforeUnDeploy;
+import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.core.spi.LoadableExtension;
+
+/**
+ * Arquillian extension closing the validator factory cached by {@link TestUtil} for a deployment before that deployment
+ * is undeployed.
+ * <p>
+ * The observer runs in the client JVM. It thus closes the cached factories of containers executing the tests in the
+ * same JVM, such as the standalone container adapter. Factories cached within a remote container are released
+ * together with the class loader of their deployment.
+ *
+ * @see TestUtil#getValidatorUnderTest()
+ */
+public class ValidatorFactoryCacheExtension implements LoadableExtension {
+
+	@Override
+	public void register(ExtensionBuilder builder) {
+		builder.observer( CachedValidatorFactoryCloser.class );
+	}
+
+	public static class CachedValidatorFactoryCloser {
+
+		public void closeCachedValidatorFactory(@Observes BeforeUnDeploy event) {
+			TestUtil.closeCachedValidatorFactory();
+		}
+	}
+}
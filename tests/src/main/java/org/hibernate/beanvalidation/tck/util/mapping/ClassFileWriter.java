@@ -0,0 +1,218 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util.mapping;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Minimal writer of class files with fields and methods, but without attributes other than the code of the methods.
+ * <p>
+ * The class files have version 50 (Java 6), which does not require stack map frames, so the code of the methods must
+ * not contain branches.
+ */
+final class ClassFileWriter {
+
+	static final int ACC_PUBLIC = 0x0001;
+
+	static final int ACC_SUPER = 0x0020;
+
+	static final int ACC_INTERFACE = 0x0200;
+
+	static final int ACC_ABSTRACT = 0x0400;
+
+	static final byte ALOAD_0 = (byte) 0x2A;
+
+	static final byte ACONST_NULL = (byte) 0x01;
+
+	static final byte ARETURN = (byte) 0xB0;
+
+	static final byte RETURN = (byte) 0xB1;
+
+	static final byte INVOKESPECIAL = (byte) 0xB7;
+
+	private static final int CONSTANT_UTF8 = 1;
+
+	private static final int CONSTANT_CLASS = 7;
+
+	private static final int CONSTANT_METHODREF = 10;
+
+	private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+	private final Map<String, Integer> constantIndexes = new HashMap<String, Integer>();
+
+	private final ByteArrayOutputStream constantPool = new ByteArrayOutputStream();
+
+	private final ByteArrayOutputStream fields = new ByteArrayOutputStream();
+
+	private final ByteArrayOutputStream methods = new ByteArrayOutputStream();
+
+	private final int access;
+
+	private final int thisClass;
+
+	private final int superClass;
+
+	private int constantCount;
+
+	private int fieldCount;
+
+	private int methodCount;
+
+	/**
+	 * @param access the access flags of the class
+	 * @param className the binary name of the class, e.g. {@code com.acme.Bean}
+	 * @param superClassName the binary name of the super class
+	 */
+	ClassFileWriter(int access, String className, String superClassName) {
+		this.access = access;
+		this.thisClass = classConstant( className );
+		this.superClass = classConstant( superClassName );
+	}
+
+	/**
+	 * Adds a field without initial value.
+	 */
+	void addField(int access, String name, String descriptor) {
+		DataOutputStream out = new DataOutputStream( fields );
+		try {
+			out.writeShort( access );
+			out.writeShort( utf8Constant( name ) );
+			out.writeShort( utf8Constant( descriptor ) );
+			out.writeShort( 0 );
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( e );
+		}
+		fieldCount++;
+	}
+
+	/**
+	 * Adds a method with the given code. The code has to be created before, as it references constants of this class
+	 * file.
+	 */
+	void addMethod(int access, String name, String descriptor, int maxStack, int maxLocals, byte[] code) {
+		DataOutputStream out = new DataOutputStream( methods );
+		try {
+			out.writeShort( access );
+			out.writeShort( utf8Constant( name ) );
+			out.writeShort( utf8Constant( descriptor ) );
+			out.writeShort( 1 );
+			out.writeShort( utf8Constant( "Code" ) );
+			out.writeInt( 12 + code.length );
+			out.writeShort( maxStack );
+			out.writeShort( maxLocals );
+			out.writeInt( code.length );
+			out.write( code );
+			out.writeShort( 0 );
+			out.writeShort( 0 );
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( e );
+		}
+		methodCount++;
+	}
+
+	/**
+	 * @return the index of the method reference constant for the given method
+	 */
+	int methodRefConstant(String className, String name, String descriptor) {
+		String key = CONSTANT_METHODREF + ":" + className + "." + name + descriptor;
+		Integer index = constantIndexes.get( key );
+		if ( index == null ) {
+			int classIndex = classConstant( className );
+			int nameAndTypeIndex = nameAndTypeConstant( name, descriptor );
+			index = addConstant( key, CONSTANT_METHODREF, classIndex, nameAndTypeIndex );
+		}
+		return index;
+	}
+
+	byte[] toByteArray() {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream( bytes );
+		try {
+			out.writeInt( 0xCAFEBABE );
+			out.writeShort( 0 );
+			out.writeShort( 50 );
+			out.writeShort( constantCount + 1 );
+			constantPool.writeTo( out );
+			out.writeShort( access );
+			out.writeShort( thisClass );
+			out.writeShort( superClass );
+			out.writeShort( 0 );
+			out.writeShort( fieldCount );
+			fields.writeTo( out );
+			out.writeShort( methodCount );
+			methods.writeTo( out );
+			out.writeShort( 0 );
+			out.flush();
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( e );
+		}
+		return bytes.toByteArray();
+	}
+
+	private int utf8Constant(String value) {
+		String key = CONSTANT_UTF8 + ":" + value;
+		Integer index = constantIndexes.get( key );
+		if ( index == null ) {
+			DataOutputStream out = new DataOutputStream( constantPool );
+			try {
+				out.writeByte( CONSTANT_UTF8 );
+				out.writeUTF( value );
+			}
+			catch (IOException e) {
+				throw new IllegalStateException( e );
+			}
+			index = ++constantCount;
+			constantIndexes.put( key, index );
+		}
+		return index;
+	}
+
+	private int classConstant(String className) {
+		String internalName = className.replace( '.', '/' );
+		String key = CONSTANT_CLASS + ":" + internalName;
+		Integer index = constantIndexes.get( key );
+		if ( index == null ) {
+			int nameIndex = utf8Constant( internalName );
+			index = addConstant( key, CONSTANT_CLASS, nameIndex );
+		}
+		return index;
+	}
+
+	private int nameAndTypeConstant(String name, String descriptor) {
+		String key = CONSTANT_NAME_AND_TYPE + ":" + name + ":" + descriptor;
+		Integer index = constantIndexes.get( key );
+		if ( index == null ) {
+			int nameIndex = utf8Constant( name );
+			int descriptorIndex = utf8Constant( descriptor );
+			index = addConstant( key, CONSTANT_NAME_AND_TYPE, nameIndex, descriptorIndex );
+		}
+		return index;
+	}
+
+	private int addConstant(String key, int tag, int... references) {
+		DataOutputStream out = new DataOutputStream( constantPool );
+		try {
+			out.writeByte( tag );
+			for ( int reference : references ) {
+				out.writeShort( reference );
+			}
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( e );
+		}
+		int index = ++constantCount;
+		constantIndexes.put( key, index );
+		return index;
+	}
+}
@@ -0,0 +1,305 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util.mapping;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.validation.constraints.NotNull;
+import javax.validation.groups.Default;
+
+/**
+ * Generates constraint mapping documents of configurable size, together with the classes of the beans they declare.
+ * <p>
+ * Each generated bean {@code Bean<i>} declares the following elements, which are constrained with {@code @NotNull}
+ * in the mapping:
+ * <ul>
+ * <li>the public fields {@code field<j>} of type {@code String},</li>
+ * <li>the getters {@code getProperty<j>()} returning a {@code String},</li>
+ * <li>the constructors with one to n {@code String} parameters, whose parameters are constrained,</li>
+ * <li>the methods {@code method<j>(String)} returning a {@code String}, whose parameter and return value are
+ * constrained,</li>
+ * <li>the public fields {@code cascaded<j>} of type {@code Object}, which are marked as cascaded and convert the
+ * default group to the generated group interface {@code Group<j>}.</li>
+ * </ul>
+ * The getters and methods return {@code null}, so validating a new instance of a bean yields one constraint violation
+ * per field and getter. The beans also have a public default constructor, which is not declared in the mapping.
+ * <p>
+ * The generated classes have no source files, they are defined by the class loader returned by
+ * {@link GeneratedConstraintMapping#createClassLoader(ClassLoader)}, which has to be the thread context class loader
+ * when bootstrapping a validator factory with the mapping.
+ */
+public class ConstraintMappingGenerator {
+
+	public static final String DEFAULT_PACKAGE_NAME = "org.hibernate.beanvalidation.tck.util.mapping.generated";
+
+	private static final String STRING_DESCRIPTOR = "Ljava/lang/String;";
+
+	private static final String OBJECT_DESCRIPTOR = "Ljava/lang/Object;";
+
+	private final Version version;
+
+	private String packageName = DEFAULT_PACKAGE_NAME;
+
+	private int beans = 1;
+
+	private int fields;
+
+	private int getters;
+
+	private int constructors;
+
+	private int methods;
+
+	private int groupConversions;
+
+	/**
+	 * @param version the version of the constraint mapping documents to generate
+	 */
+	public ConstraintMappingGenerator(Version version) {
+		this.version = version;
+	}
+
+	/**
+	 * @param packageName the package of the generated beans and groups, {@value #DEFAULT_PACKAGE_NAME} by default.
+	 * Mappings generated into the same package must not be used with the same class loader.
+	 */
+	public ConstraintMappingGenerator withPackageName(String packageName) {
+		this.packageName = packageName;
+		return this;
+	}
+
+	/**
+	 * @param beans the number of beans, 1 by default
+	 */
+	public ConstraintMappingGenerator withBeans(int beans) {
+		this.beans = beans;
+		return this;
+	}
+
+	/**
+	 * @param fields the number of constrained fields per bean
+	 */
+	public ConstraintMappingGenerator withFields(int fields) {
+		this.fields = fields;
+		return this;
+	}
+
+	/**
+	 * @param getters the number of constrained getters per bean
+	 */
+	public ConstraintMappingGenerator withGetters(int getters) {
+		this.getters = getters;
+		return this;
+	}
+
+	/**
+	 * @param constructors the number of constructors with constrained parameters per bean, requires version 1.1 or
+	 * later
+	 */
+	public ConstraintMappingGenerator withConstructors(int constructors) {
+		assertSupportedByVersion( constructors, "constructors" );
+		this.constructors = constructors;
+		return this;
+	}
+
+	/**
+	 * @param methods the number of methods with constrained parameters and return values per bean, requires version
+	 * 1.1 or later
+	 */
+	public ConstraintMappingGenerator withMethods(int methods) {
+		assertSupportedByVersion( methods, "methods" );
+		this.methods = methods;
+		return this;
+	}
+
+	/**
+	 * @param groupConversions the number of cascaded fields with a group conversion per bean, requires version 1.1 or
+	 * later
+	 */
+	public ConstraintMappingGenerator withGroupConversions(int groupConversions) {
+		assertSupportedByVersion( groupConversions, "group conversions" );
+		this.groupConversions = groupConversions;
+		return this;
+	}
+
+	public GeneratedConstraintMapping generate() {
+		Map<String, byte[]> classFiles = new LinkedHashMap<String, byte[]>();
+		List<String> beanClassNames = new ArrayList<String>( beans );
+		for ( int i = 0; i < groupConversions; i++ ) {
+			classFiles.put( getGroupClassName( i ), createGroupClassFile( getGroupClassName( i ) ) );
+		}
+		for ( int i = 0; i < beans; i++ ) {
+			String beanClassName = packageName + ".Bean" + i;
+			beanClassNames.add( beanClassName );
+			classFiles.put( beanClassName, createBeanClassFile( beanClassName ) );
+		}
+
+		return new GeneratedConstraintMapping(
+				createDocument().getBytes( StandardCharsets.UTF_8 ),
+				Collections.unmodifiableMap( classFiles ),
+				Collections.unmodifiableList( beanClassNames ),
+				fields + getters
+		);
+	}
+
+	private void assertSupportedByVersion(int count, String elements) {
+		if ( count > 0 && version == Version.V1_0 ) {
+			throw new IllegalArgumentException( "Constraint mappings of version 1.0 cannot declare " + elements );
+		}
+	}
+
+	private String getGroupClassName(int index) {
+		return packageName + ".Group" + index;
+	}
+
+	private String createDocument() {
+		StringBuilder document = new StringBuilder();
+		document.append( "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" )
+				.append( "<constraint-mappings xmlns=\"" ).append( version.namespace ).append( "\"\n" )
+				.append( "        xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n" )
+				.append( "        xsi:schemaLocation=\"" ).append( version.namespace ).append( " validation-mapping-" )
+				.append( version.value ).append( ".xsd\"" );
+		if ( version != Version.V1_0 ) {
+			document.append( "\n        version=\"" ).append( version.value ).append( "\"" );
+		}
+		document.append( ">\n" )
+				.append( "    <default-package>" ).append( packageName ).append( "</default-package>\n" );
+
+		for ( int i = 0; i < beans; i++ ) {
+			document.append( "    <bean class=\"Bean" ).append( i ).append( "\" ignore-annotations=\"true\">\n" );
+			for ( int j = 0; j < fields; j++ ) {
+				document.append( "        <field name=\"field" ).append( j ).append( "\">\n" );
+				appendConstraint( document, "            " );
+				document.append( "        </field>\n" );
+			}
+			for ( int j = 0; j < groupConversions; j++ ) {
+				document.append( "        <field name=\"cascaded" ).append( j ).append( "\">\n" )
+						.append( "            <valid/>\n" )
+						.append( "            <convert-group from=\"" ).append( Default.class.getName() )
+						.append( "\" to=\"" ).append( getGroupClassName( j ) ).append( "\"/>\n" )
+						.append( "        </field>\n" );
+			}
+			for ( int j = 0; j < getters; j++ ) {
+				document.append( "        <getter name=\"property" ).append( j ).append( "\">\n" );
+				appendConstraint( document, "            " );
+				document.append( "        </getter>\n" );
+			}
+			for ( int j = 1; j <= constructors; j++ ) {
+				document.append( "        <constructor>\n" );
+				for ( int k = 0; k < j; k++ ) {
+					appendParameter( document );
+				}
+				document.append( "        </constructor>\n" );
+			}
+			for ( int j = 0; j < methods; j++ ) {
+				document.append( "        <method name=\"method" ).append( j ).append( "\">\n" );
+				appendParameter( document );
+				document.append( "            <return-value>\n" );
+				appendConstraint( document, "                " );
+				document.append( "            </return-value>\n" )
+						.append( "        </method>\n" );
+			}
+			document.append( "    </bean>\n" );
+		}
+
+		document.append( "</constraint-mappings>\n" );
+		return document.toString();
+	}
+
+	private static void appendParameter(StringBuilder document) {
+		document.append( "            <parameter type=\"" ).append( String.class.getName() ).append( "\">\n" );
+		appendConstraint( document, "                " );
+		document.append( "            </parameter>\n" );
+	}
+
+	private static void appendConstraint(StringBuilder document, String indentation) {
+		document.append( indentation ).append( "<constraint annotation=\"" ).append( NotNull.class.getName() )
+				.append( "\"/>\n" );
+	}
+
+	private byte[] createBeanClassFile(String className) {
+		ClassFileWriter writer = new ClassFileWriter(
+				ClassFileWriter.ACC_PUBLIC | ClassFileWriter.ACC_SUPER,
+				className,
+				Object.class.getName()
+		);
+
+		int objectConstructor = writer.methodRefConstant( Object.class.getName(), "<init>", "()V" );
+		byte[] constructorCode = new byte[] {
+				ClassFileWriter.ALOAD_0,
+				ClassFileWriter.INVOKESPECIAL, (byte) ( objectConstructor >> 8 ), (byte) objectConstructor,
+				ClassFileWriter.RETURN
+		};
+		byte[] returnNullCode = new byte[] { ClassFileWriter.ACONST_NULL, ClassFileWriter.ARETURN };
+
+		for ( int i = 0; i < fields; i++ ) {
+			writer.addField( ClassFileWriter.ACC_PUBLIC, "field" + i, STRING_DESCRIPTOR );
+		}
+		for ( int i = 0; i < groupConversions; i++ ) {
+			writer.addField( ClassFileWriter.ACC_PUBLIC, "cascaded" + i, OBJECT_DESCRIPTOR );
+		}
+
+		StringBuilder parameters = new StringBuilder();
+		writer.addMethod( ClassFileWriter.ACC_PUBLIC, "<init>", "()V", 1, 1, constructorCode );
+		for ( int i = 1; i <= constructors; i++ ) {
+			parameters.append( STRING_DESCRIPTOR );
+			writer.addMethod( ClassFileWriter.ACC_PUBLIC, "<init>", "(" + parameters + ")V", 1, 1 + i, constructorCode );
+		}
+		for ( int i = 0; i < getters; i++ ) {
+			writer.addMethod( ClassFileWriter.ACC_PUBLIC, "getProperty" + i, "()" + STRING_DESCRIPTOR, 1, 1, returnNullCode );
+		}
+		for ( int i = 0; i < methods; i++ ) {
+			writer.addMethod(
+					ClassFileWriter.ACC_PUBLIC,
+					"method" + i,
+					"(" + STRING_DESCRIPTOR + ")" + STRING_DESCRIPTOR,
+					1,
+					2,
+					returnNullCode
+			);
+		}
+
+		return writer.toByteArray();
+	}
+
+	private static byte[] createGroupClassFile(String className) {
+		ClassFileWriter writer = new ClassFileWriter(
+				ClassFileWriter.ACC_PUBLIC | ClassFileWriter.ACC_INTERFACE | ClassFileWriter.ACC_ABSTRACT,
+				className,
+				Object.class.getName()
+		);
+		return writer.toByteArray();
+	}
+
+	/**
+	 * The versions of the constraint mapping XML schema.
+	 */
+	public enum Version {
+
+		V1_0( "1.0", "http://jboss.org/xml/ns/javax/validation/mapping" ),
+		V1_1( "1.1", "http://jboss.org/xml/ns/javax/validation/mapping" ),
+		V2_0( "2.0", "http://xmlns.jcp.org/xml/ns/validation/mapping" );
+
+		private final String value;
+
+		private final String namespace;
+
+		Version(String value, String namespace) {
+			this.value = value;
+			this.namespace = namespace;
+		}
+
+		@Override
+		public String toString() {
+			return value;
+		}
+	}
+}
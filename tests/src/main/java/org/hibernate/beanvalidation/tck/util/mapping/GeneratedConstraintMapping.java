@@ -0,0 +1,99 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util.mapping;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A constraint mapping document created by {@link ConstraintMappingGenerator}, together with the class files of the
+ * beans and groups it declares.
+ */
+public class GeneratedConstraintMapping {
+
+	private final byte[] document;
+
+	private final Map<String, byte[]> classFiles;
+
+	private final List<String> beanClassNames;
+
+	private final int violationsPerBean;
+
+	GeneratedConstraintMapping(byte[] document, Map<String, byte[]> classFiles, List<String> beanClassNames,
+			int violationsPerBean) {
+		this.document = document;
+		this.classFiles = classFiles;
+		this.beanClassNames = beanClassNames;
+		this.violationsPerBean = violationsPerBean;
+	}
+
+	/**
+	 * @return a new stream of the document, encoded in UTF-8, e.g. to be passed to
+	 * {@link javax.validation.Configuration#addMapping(InputStream)}
+	 */
+	public InputStream getInputStream() {
+		return new ByteArrayInputStream( document );
+	}
+
+	/**
+	 * @return the size of the document in bytes
+	 */
+	public int getDocumentSize() {
+		return document.length;
+	}
+
+	/**
+	 * @return the class files of the generated beans and groups by class name
+	 */
+	public Map<String, byte[]> getClassFiles() {
+		return classFiles;
+	}
+
+	/**
+	 * @return the names of the generated beans
+	 */
+	public List<String> getBeanClassNames() {
+		return beanClassNames;
+	}
+
+	/**
+	 * @return the number of constraint violations when validating a new instance of one of the beans
+	 */
+	public int getViolationsPerBean() {
+		return violationsPerBean;
+	}
+
+	/**
+	 * Creates a class loader defining the generated classes. Each class loader defines them anew.
+	 *
+	 * @param parent the class loader to delegate all other classes and resources to
+	 */
+	public ClassLoader createClassLoader(ClassLoader parent) {
+		return new GeneratedClassLoader( parent, classFiles );
+	}
+
+	private static class GeneratedClassLoader extends ClassLoader {
+
+		private final Map<String, byte[]> classFiles;
+
+		private GeneratedClassLoader(ClassLoader parent, Map<String, byte[]> classFiles) {
+			super( parent );
+			this.classFiles = classFiles;
+		}
+
+		@Override
+		protected Class<?> findClass(String name) throws ClassNotFoundException {
+			byte[] classFile = classFiles.get( name );
+			if ( classFile == null ) {
+				throw new ClassNotFoundException( name );
+			}
+			return defineClass( name, classFile, 0, classFile.length );
+		}
+	}
+}
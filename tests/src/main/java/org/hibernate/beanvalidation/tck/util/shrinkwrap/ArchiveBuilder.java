@@ -8,9 +8,13 @@ package org.hibernate.beanvalidation.tck.util.shrinkwrap;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 import org.jboss.shrinkwrap.api.Archive;
 import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
 import org.jboss.shrinkwrap.api.container.ClassContainer;
 import org.jboss.shrinkwrap.api.container.ResourceContainer;
 import org.jboss.shrinkwrap.impl.base.URLPackageScanner;
@@ -146,6 +150,9 @@ public abstract class ArchiveBuilder<T extends ArchiveBuilder<T, A>, A extends A
 	public abstract T self();
 
 	/**
+	 * Builds the archive. If an archive with the same content has been built before, a copy of that archive is
+	 * returned instead of assembling it again (see {@link ArchiveCache}).
+	 *
 	 * @return shrinkwrap archive
 	 */
 	public A build() {
@@ -156,14 +163,114 @@ public abstract class ArchiveBuilder<T extends ArchiveBuilder<T, A>, A extends A
 		// add test classes which should be part of all deployments
 		withClasses( TestUtil.class, PathNodeKinds.class, PathNodeNames.class );
 
-		return buildInternal();
+		String cacheKey = ArchiveCache.isEnabled() ? getCacheKey() : null;
+		if ( cacheKey == null ) {
+			return buildInternal();
+		}
+
+		Archive<?> cachedArchive = ArchiveCache.get( cacheKey );
+		if ( cachedArchive != null ) {
+			return createArchive().merge( cachedArchive );
+		}
+
+		long start = System.nanoTime();
+		A archive = buildInternal();
+		ArchiveCache.put( cacheKey, archive, System.nanoTime() - start );
+
+		return archive;
 	}
 
+	/**
+	 * @return new empty shrinkwrap archive, named after {@link #getName()} if set
+	 */
+	protected abstract A createArchive();
+
 	/**
 	 * @return concrete shrinkwrap archive
 	 */
 	protected abstract A buildInternal();
 
+	/**
+	 * Appends the state specific to a concrete builder to the given cache key.
+	 *
+	 * @param key the cache key built so far
+	 *
+	 * @return {@code false} if the archive cannot be cached, {@code true} otherwise
+	 */
+	protected boolean appendCacheKey(StringBuilder key) {
+		return true;
+	}
+
+	/**
+	 * Appends the given resources to the given cache key.
+	 *
+	 * @return {@code false} if one of the resources has an asset whose content cannot be described, {@code true}
+	 * otherwise
+	 */
+	protected boolean appendCacheKey(StringBuilder key, List<ResourceDescriptor> resources) {
+		if ( resources == null ) {
+			return true;
+		}
+
+		for ( ResourceDescriptor resource : resources ) {
+			key.append( "resource:" ).append( resource.getSource() ).append( "->" ).append( resource.getTarget() );
+
+			Asset asset = resource.getAsset();
+			if ( asset instanceof EmptyAsset ) {
+				key.append( ":empty" );
+			}
+			else if ( asset instanceof StringAsset ) {
+				key.append( ":string:" ).append( ( (StringAsset) asset ).getSource() );
+			}
+			else if ( asset != null ) {
+				return false;
+			}
+			key.append( '\n' );
+		}
+
+		return true;
+	}
+
+	/**
+	 * @return the hash of the content of the archive to be built, or {@code null} if the archive cannot be cached
+	 */
+	private String getCacheKey() {
+		StringBuilder key = new StringBuilder();
+		key.append( "builder:" ).append( getClass().getName() ).append( '\n' );
+		key.append( "name:" ).append( name ).append( '\n' );
+
+		if ( packages != null ) {
+			for ( String pack : new TreeSet<String>( packages ) ) {
+				key.append( "package:" ).append( pack ).append( '\n' );
+			}
+		}
+
+		if ( classes != null ) {
+			SortedSet<String> sortedClasses = new TreeSet<String>( classes );
+			// the test class itself is not added by processClasses()
+			sortedClasses.remove( testClazz.getName() );
+			for ( String clazz : sortedClasses ) {
+				key.append( "class:" ).append( clazz ).append( '\n' );
+			}
+		}
+
+		if ( serviceProviders != null ) {
+			for ( ServiceProviderDescriptor serviceProvider : serviceProviders ) {
+				key.append( "service:" ).append( serviceProvider.getServiceInterface().getName() );
+				for ( Class<?> implementation : serviceProvider.getServiceImplementations() ) {
+					key.append( ',' ).append( implementation.getName() );
+				}
+				key.append( '\n' );
+			}
+		}
+
+		if ( !appendCacheKey( key, resources ) || !appendCacheKey( key ) ) {
+			return null;
+		}
+
+		return ArchiveCache.hash( key.toString() );
+	}
+
 	protected void processPackages(final ClassContainer<?> archive) {
 
 		if ( packages == null ) {
@@ -172,6 +279,14 @@ public abstract class ArchiveBuilder<T extends ArchiveBuilder<T, A>, A extends A
 
 		for ( String pack : packages ) {
 
+			List<String> indexedClasses = PackageIndex.getClasses( pack );
+			if ( indexedClasses != null ) {
+				for ( String className : indexedClasses ) {
+					archive.addClass( className );
+				}
+				continue;
+			}
+
 			final URLPackageScanner.Callback callback = new URLPackageScanner.Callback() {
 				@Override
 				public void classFound(String className) {
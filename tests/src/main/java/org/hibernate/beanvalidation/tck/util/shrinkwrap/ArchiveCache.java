@@ -0,0 +1,116 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util.shrinkwrap;
+
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import org.jboss.shrinkwrap.api.Archive;
+
+/**
+ * JVM wide cache of the archives assembled by {@link ArchiveBuilder}, keyed by a hash of the builder content.
+ * <p>
+ * Many test classes (e.g. all the tests of a package using {@link ArchiveBuilder#withTestClassPackage(Class)}) declare
+ * identical deployments. Such an archive is only assembled once, subsequent builds get a copy of the cached archive.
+ * The cache can be disabled by setting the system property <i>disableArchiveCache</i> to {@code true}.
+ */
+public final class ArchiveCache {
+
+	/**
+	 * Name of the system property for disabling the archive cache.
+	 */
+	private static final String DISABLE_ARCHIVE_CACHE = "disableArchiveCache";
+
+	private static final Logger logger = Logger.getLogger( ArchiveCache.class.getName() );
+
+	private static final boolean enabled = !Boolean.getBoolean( DISABLE_ARCHIVE_CACHE );
+
+	private static final ConcurrentMap<String, CachedArchive> archives = new ConcurrentHashMap<String, CachedArchive>();
+
+	private static final AtomicLong hits = new AtomicLong();
+	private static final AtomicLong misses = new AtomicLong();
+	private static final AtomicLong savedNanos = new AtomicLong();
+
+	private ArchiveCache() {
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	public static long getHitCount() {
+		return hits.get();
+	}
+
+	public static long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * @return the accumulated time it took to assemble the archives which have been served from the cache
+	 */
+	public static long getSavedTime(TimeUnit unit) {
+		return unit.convert( savedNanos.get(), TimeUnit.NANOSECONDS );
+	}
+
+	/**
+	 * Returns the cached archive with the given key, recording a hit or a miss.
+	 *
+	 * @param key the cache key as returned by {@link #hash(String)}
+	 *
+	 * @return the cached archive or {@code null} if there is no archive cached under the given key. The returned
+	 * archive must not be altered.
+	 */
+	static Archive<?> get(String key) {
+		CachedArchive cachedArchive = archives.get( key );
+		if ( cachedArchive == null ) {
+			misses.incrementAndGet();
+			return null;
+		}
+
+		hits.incrementAndGet();
+		savedNanos.addAndGet( cachedArchive.buildNanos );
+		logger.fine( "Reusing cached archive for key " + key );
+		return cachedArchive.archive;
+	}
+
+	static void put(String key, Archive<?> archive, long buildNanos) {
+		archives.putIfAbsent( key, new CachedArchive( archive.shallowCopy(), buildNanos ) );
+	}
+
+	static String hash(String content) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch ( NoSuchAlgorithmException e ) {
+			throw new RuntimeException( "Unable to create archive cache key", e );
+		}
+
+		StringBuilder hash = new StringBuilder();
+		for ( byte b : digest.digest( content.getBytes( Charset.forName( "UTF-8" ) ) ) ) {
+			hash.append( String.format( "%02x", b ) );
+		}
+		return hash.toString();
+	}
+
+	private static class CachedArchive {
+		private final Archive<?> archive;
+		private final long buildNanos;
+
+		private CachedArchive(Archive<?> archive, long buildNanos) {
+			this.archive = archive;
+			this.buildNanos = buildNanos;
+		}
+	}
+}
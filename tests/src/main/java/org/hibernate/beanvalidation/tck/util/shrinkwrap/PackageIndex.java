@@ -0,0 +1,180 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util.shrinkwrap;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+/**
+ * Index of the classes contained in each package of the TCK, generated at build time.
+ * <p>
+ * The index is written by {@link #main(String[])} during the {@code process-classes} phase of the build and allows
+ * {@link ArchiveBuilder} to add the classes of a package to an archive without scanning the class path. Packages which
+ * are not part of the index (or all packages, if the index is not present) need to be scanned.
+ *
+ * @see ArchiveBuilder#withPackage(Package)
+ */
+public final class PackageIndex {
+
+	/**
+	 * Location of the index on the class path.
+	 */
+	static final String INDEX_RESOURCE = "META-INF/beanvalidation-tck-package-index.properties";
+
+	private static final String ROOT_PACKAGE = "org.hibernate.beanvalidation.tck";
+	private static final String CLASS_FILE_EXTENSION = ".class";
+	private static final String SEPARATOR = ",";
+
+	private static final Logger logger = Logger.getLogger( PackageIndex.class.getName() );
+
+	private PackageIndex() {
+	}
+
+	/**
+	 * Returns the names of all the classes (including nested classes) directly contained in the given package.
+	 *
+	 * @param packageName the package name
+	 *
+	 * @return the fully qualified class names or {@code null} if the package is not indexed
+	 */
+	public static List<String> getClasses(String packageName) {
+		String simpleNames = IndexHolder.INDEX.getProperty( packageName );
+		if ( simpleNames == null ) {
+			return null;
+		}
+
+		List<String> classNames = new ArrayList<String>();
+		for ( String simpleName : simpleNames.split( SEPARATOR ) ) {
+			if ( !simpleName.isEmpty() ) {
+				classNames.add( packageName + "." + simpleName );
+			}
+		}
+		return classNames;
+	}
+
+	/**
+	 * @return the names of all indexed packages, an empty set if the index is not present
+	 */
+	public static Set<String> getPackages() {
+		return IndexHolder.INDEX.stringPropertyNames();
+	}
+
+	/**
+	 * Writes the index of the classes found in the given class output directory.
+	 *
+	 * @param args the class output directory of the build
+	 */
+	public static void main(String[] args) throws Exception {
+		if ( args.length != 1 ) {
+			throw new IllegalArgumentException( "Usage: PackageIndex <class output directory>" );
+		}
+
+		File outputDirectory = new File( args[0] );
+		Map<String, SortedSet<String>> index = new TreeMap<String, SortedSet<String>>();
+		File rootDirectory = new File( outputDirectory, ROOT_PACKAGE.replace( '.', File.separatorChar ) );
+		addClasses( ROOT_PACKAGE, rootDirectory, index );
+
+		File indexFile = new File( outputDirectory, INDEX_RESOURCE );
+		if ( !indexFile.getParentFile().exists() && !indexFile.getParentFile().mkdirs() ) {
+			throw new RuntimeException( "Unable to create directory for package index: " + indexFile.getParent() );
+		}
+
+		Writer writer = new OutputStreamWriter( new FileOutputStream( indexFile ), Charset.forName( "ISO-8859-1" ) );
+		try {
+			for ( Map.Entry<String, SortedSet<String>> entry : index.entrySet() ) {
+				writer.write( entry.getKey() );
+				writer.write( '=' );
+				writer.write( join( entry.getValue() ) );
+				writer.write( '\n' );
+			}
+		}
+		finally {
+			writer.close();
+		}
+
+		logger.info( "Indexed " + index.size() + " packages in " + indexFile );
+	}
+
+	private static void addClasses(String packageName, File directory, Map<String, SortedSet<String>> index) {
+		File[] files = directory.listFiles();
+		if ( files == null ) {
+			return;
+		}
+
+		Arrays.sort( files );
+		SortedSet<String> classes = new TreeSet<String>();
+		for ( File file : files ) {
+			if ( file.isDirectory() ) {
+				addClasses( packageName + "." + file.getName(), file, index );
+			}
+			else if ( file.getName().endsWith( CLASS_FILE_EXTENSION ) ) {
+				classes.add( file.getName().substring( 0, file.getName().length() - CLASS_FILE_EXTENSION.length() ) );
+			}
+		}
+
+		if ( !classes.isEmpty() ) {
+			index.put( packageName, classes );
+		}
+	}
+
+	private static String join(SortedSet<String> names) {
+		StringBuilder joined = new StringBuilder();
+		for ( String name : names ) {
+			if ( joined.length() > 0 ) {
+				joined.append( SEPARATOR );
+			}
+			joined.append( name );
+		}
+		return joined.toString();
+	}
+
+	private static Properties loadIndex() {
+		Properties index = new Properties();
+
+		URL url = PackageIndex.class.getClassLoader().getResource( INDEX_RESOURCE );
+		if ( url == null ) {
+			logger.fine( "No package index found, packages will be scanned" );
+			return index;
+		}
+
+		try {
+			InputStream in = url.openStream();
+			try {
+				index.load( in );
+			}
+			finally {
+				in.close();
+			}
+		}
+		catch ( IOException e ) {
+			logger.warning( "Unable to read package index " + url + ", packages will be scanned: " + e.getMessage() );
+			index.clear();
+		}
+
+		return index;
+	}
+
+	private static class IndexHolder {
+		private static final Properties INDEX = loadIndex();
+	}
+}
@@ -35,15 +35,18 @@ public class WebArchiveBuilder extends ArchiveBuilder<WebArchiveBuilder, WebArch
 	}
 
 	@Override
-	protected WebArchive buildInternal() {
-		WebArchive webArchive;
-
+	protected WebArchive createArchive() {
 		if ( getName() == null ) {
-			webArchive = ShrinkWrap.create( WebArchive.class );
+			return ShrinkWrap.create( WebArchive.class );
 		}
 		else {
-			webArchive = ShrinkWrap.create( WebArchive.class, getName() );
+			return ShrinkWrap.create( WebArchive.class, getName() );
 		}
+	}
+
+	@Override
+	protected WebArchive buildInternal() {
+		WebArchive webArchive = createArchive();
 
 		processPackages( webArchive );
 		processClasses( webArchive );
@@ -57,6 +60,12 @@ public class WebArchiveBuilder extends ArchiveBuilder<WebArchiveBuilder, WebArch
 		return webArchive;
 	}
 
+	@Override
+	protected boolean appendCacheKey(StringBuilder key) {
+		key.append( "web-inf\n" );
+		return appendCacheKey( key, webInfResources );
+	}
+
 	@Override
 	public WebArchiveBuilder withEmptyBeansXml() {
 		return withWebInfResource( EmptyAsset.INSTANCE, "beans.xml" );